@@ -0,0 +1,93 @@
+package com.example.sorting;
+
+import java.util.Random;
+
+/**
+ * Input shapes used by the sorting benchmarks.
+ * Every distribution is generated from a fixed seed so runs are comparable.
+ */
+public enum InputDistribution {
+
+    RANDOM {
+        @Override
+        void fill(int[] a, Random random) {
+            for (int i = 0; i < a.length; i++) {
+                a[i] = random.nextInt(VALUE_RANGE);
+            }
+        }
+    },
+
+    SORTED {
+        @Override
+        void fill(int[] a, Random random) {
+            for (int i = 0; i < a.length; i++) {
+                a[i] = i;
+            }
+        }
+    },
+
+    REVERSED {
+        @Override
+        void fill(int[] a, Random random) {
+            for (int i = 0; i < a.length; i++) {
+                a[i] = a.length - i;
+            }
+        }
+    },
+
+    NEARLY_SORTED {
+        @Override
+        void fill(int[] a, Random random) {
+            SORTED.fill(a, random);
+
+            // Swap roughly 1% of the elements with a nearby neighbour
+            int swaps = Math.max(1, a.length / 100);
+            for (int s = 0; s < swaps && a.length > 1; s++) {
+                int i = random.nextInt(a.length);
+                int j = Math.min(a.length - 1, i + 1 + random.nextInt(8));
+                int temp = a[i];
+                a[i] = a[j];
+                a[j] = temp;
+            }
+        }
+    },
+
+    MANY_DUPLICATES {
+        @Override
+        void fill(int[] a, Random random) {
+            for (int i = 0; i < a.length; i++) {
+                a[i] = random.nextInt(16);
+            }
+        }
+    },
+
+    ORGAN_PIPE {
+        @Override
+        void fill(int[] a, Random random) {
+            // Ascending to the middle, then descending again
+            int half = a.length / 2;
+            for (int i = 0; i < a.length; i++) {
+                a[i] = i < half ? i : a.length - i;
+            }
+        }
+    };
+
+    // Same value range SortingDriver draws from
+    static final int VALUE_RANGE = 50000;
+
+    private static final long SEED = 0x5EED_5017L;
+
+    abstract void fill(int[] a, Random random);
+
+    /**
+     * Generates a new array of the given size with this distribution.
+     *
+     * @param size number of elements
+     * @return the generated values
+     */
+    public int[] generate(int size) {
+        int[] a = new int[size];
+        fill(a, new Random(SEED));
+        return a;
+    }
+}
@@ -0,0 +1,141 @@
+package com.example.sorting;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JMH benchmarks for the sorting algorithms in SortingUtility.
+ * Each invocation sorts a fresh copy of a pre-generated input, so the copy cost is the same
+ * for every algorithm and the sorted array is returned to keep it from being optimised away.
+ *
+ * Run with {@code mvn -P benchmark package && java -jar target/benchmarks.jar}. The jar's
+ * entry point is JMH's own Main, so every JMH command line option works, including
+ * {@code -l} to list the benchmarks and {@code -prof gc} to report allocation rates.
+ */
+@State(Scope.Thread)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class SortingBenchmark {
+
+    @Param({"100", "1000", "10000"})
+    public int size;
+
+    @Param({"RANDOM", "SORTED", "REVERSED", "NEARLY_SORTED", "MANY_DUPLICATES", "ORGAN_PIPE"})
+    public InputDistribution distribution;
+
+    private int[] primitiveSource;
+    private Integer[] boxedSource;
+    private String[] stringSource;
+    private final RadixSorter radixSorter = new RadixSorter();
+    private final StringSorter stringSorter = new StringSorter();
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        primitiveSource = distribution.generate(size);
+        boxedSource = Arrays.stream(primitiveSource).boxed().toArray(Integer[]::new);
+        // URL-like keys: every string shares a long prefix with most of the others
+        stringSource = Arrays.stream(primitiveSource)
+                .mapToObj(v -> "https://example.com/api/v1/items/" + v)
+                .toArray(String[]::new);
+    }
+
+    @Benchmark
+    public Integer[] gnomeSort() {
+        Integer[] a = boxedSource.clone();
+        SortingUtility.gnomeSort(a);
+        return a;
+    }
+
+    @Benchmark
+    public Integer[] cocktailShakerSort() {
+        Integer[] a = boxedSource.clone();
+        SortingUtility.cocktailShakerSort(a);
+        return a;
+    }
+
+    @Benchmark
+    public Integer[] shellSort() {
+        Integer[] a = boxedSource.clone();
+        SortingUtility.shellSort(a);
+        return a;
+    }
+
+    @Benchmark
+    public Integer[] parallelShellSort() {
+        Integer[] a = boxedSource.clone();
+        SortingUtility.parallelShellSort(a);
+        return a;
+    }
+
+    @Benchmark
+    public Integer[] distinctKeySort() {
+        Integer[] a = boxedSource.clone();
+        SortingUtility.distinctKeySort(a);
+        return a;
+    }
+
+    @Benchmark
+    public int[] gnomeSortPrimitive() {
+        int[] a = primitiveSource.clone();
+        SortingUtility.gnomeSort(a);
+        return a;
+    }
+
+    @Benchmark
+    public int[] cocktailShakerSortPrimitive() {
+        int[] a = primitiveSource.clone();
+        SortingUtility.cocktailShakerSort(a);
+        return a;
+    }
+
+    @Benchmark
+    public int[] shellSortPrimitive() {
+        int[] a = primitiveSource.clone();
+        SortingUtility.shellSort(a);
+        return a;
+    }
+
+    @Benchmark
+    public int[] radixSortPrimitive() {
+        int[] a = primitiveSource.clone();
+        radixSorter.sort(a);
+        return a;
+    }
+
+    @Benchmark
+    public Integer[] radixSortByIntKey() {
+        Integer[] a = boxedSource.clone();
+        radixSorter.sortByIntKey(a, Integer::intValue);
+        return a;
+    }
+
+    @Benchmark
+    public String[] shellSortStrings() {
+        String[] a = stringSource.clone();
+        SortingUtility.shellSort(a);
+        return a;
+    }
+
+    @Benchmark
+    public String[] stringSorter() {
+        String[] a = stringSource.clone();
+        stringSorter.sort(a);
+        return a;
+    }
+}
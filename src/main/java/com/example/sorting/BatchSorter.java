@@ -0,0 +1,247 @@
+package com.example.sorting;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Sorts many independent arrays in parallel.
+ *
+ * Every array is sorted with the adaptive SortingUtility.sort. Small arrays are grouped into
+ * one task until the task covers at least batchElements elements, so sorting a hundred
+ * thousand tiny arrays creates a few hundred tasks rather than a hundred thousand. At most
+ * maxInFlight tasks are submitted but not yet finished at any time: the submitting thread
+ * waits for a task to finish before submitting another, so a huge collection never floods
+ * the executor's queue.
+ *
+ * By default the tasks run on virtual threads, which the JDK schedules on a work-stealing
+ * pool with one carrier thread per core. An executor can also be passed in. Each call
+ * returns a Report with its wall-clock and summed task times.
+ */
+public final class BatchSorter implements AutoCloseable {
+
+    // Default number of elements a task sorts before the next array starts a new task
+    public static final int DEFAULT_BATCH_ELEMENTS = 4096;
+
+    /**
+     * Timing of one sortAll call.
+     *
+     * @param arrays       the number of arrays sorted
+     * @param elements     the total number of elements in them
+     * @param tasks        the number of tasks the arrays were grouped into
+     * @param elapsedNanos wall-clock time from the call to the last task finishing
+     * @param taskNanos    time spent inside the tasks, summed over all of them; divided by
+     *                     elapsedNanos it gives the effective parallelism
+     */
+    public record Report(int arrays, long elements, int tasks, long elapsedNanos, long taskNanos) {
+    }
+
+    private final ExecutorService executor;
+    private final boolean ownsExecutor;
+    private final int batchElements;
+    private final Semaphore inFlight;
+
+    /**
+     * Creates a batch sorter that runs every task on its own virtual thread, with the default
+     * batch size and up to four tasks in flight per available processor.
+     */
+    public BatchSorter() {
+        this(Executors.newVirtualThreadPerTaskExecutor(), true, DEFAULT_BATCH_ELEMENTS,
+                4 * Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Creates a batch sorter that runs its tasks on the given executor. The executor is not
+     * shut down by close().
+     *
+     * @param executor      runs the sort tasks
+     * @param batchElements the minimum number of elements grouped into one task
+     * @param maxInFlight   the maximum number of submitted tasks that have not finished
+     * @throws IllegalArgumentException if batchElements or maxInFlight is not positive
+     */
+    public BatchSorter(ExecutorService executor, int batchElements, int maxInFlight) {
+        this(executor, false, batchElements, maxInFlight);
+    }
+
+    private BatchSorter(ExecutorService executor, boolean ownsExecutor, int batchElements, int maxInFlight) {
+        if (batchElements <= 0) {
+            throw new IllegalArgumentException("batchElements must be positive: " + batchElements);
+        }
+        if (maxInFlight <= 0) {
+            throw new IllegalArgumentException("maxInFlight must be positive: " + maxInFlight);
+        }
+        this.executor = Objects.requireNonNull(executor);
+        this.ownsExecutor = ownsExecutor;
+        this.batchElements = batchElements;
+        this.inFlight = new Semaphore(maxInFlight);
+    }
+
+    /**
+     * Sorts every array of the collection and waits until all of them are sorted.
+     *
+     * @param arrays the arrays of Comparable objects to sort (each modified in place)
+     * @return the timing of this call
+     * @throws InterruptedException if interrupted while waiting to submit a task
+     */
+    public <T extends Comparable<T>> Report sortAll(Collection<T[]> arrays) throws InterruptedException {
+        return sortAll(arrays, Comparator.naturalOrder());
+    }
+
+    /**
+     * Sorts every array of the collection by a Comparator and waits until all of them are
+     * sorted. If sorting an array throws, every other array is still sorted and the
+     * exception is rethrown here once all tasks have finished.
+     *
+     * @param arrays the arrays to sort (each modified in place)
+     * @param c      the comparator that determines the order of the arrays
+     * @return the timing of this call
+     * @throws InterruptedException if interrupted while waiting to submit a task
+     */
+    public <T> Report sortAll(Collection<T[]> arrays, Comparator<? super T> c) throws InterruptedException {
+        try {
+            return submit(arrays, c).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof Error cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Starts sorting every array of the collection and returns immediately.
+     *
+     * @param arrays the arrays of Comparable objects to sort (each modified in place)
+     * @return a future that completes with the timing once every array is sorted
+     */
+    public <T extends Comparable<T>> CompletableFuture<Report> sortAllAsync(Collection<T[]> arrays) {
+        return sortAllAsync(arrays, Comparator.naturalOrder());
+    }
+
+    /**
+     * Starts sorting every array of the collection by a Comparator and returns immediately.
+     * Tasks are submitted from a separate virtual thread, which does the waiting when
+     * maxInFlight tasks are already running.
+     *
+     * @param arrays the arrays to sort (each modified in place)
+     * @param c      the comparator that determines the order of the arrays
+     * @return a future that completes with the timing once every array is sorted, or
+     * exceptionally with an exception thrown while sorting
+     */
+    public <T> CompletableFuture<Report> sortAllAsync(Collection<T[]> arrays, Comparator<? super T> c) {
+        CompletableFuture<Report> result = new CompletableFuture<>();
+
+        Thread.ofVirtual().name("batch-sorter-submit").start(() -> {
+            try {
+                submit(arrays, c).whenComplete((report, e) -> {
+                    if (e == null) {
+                        result.complete(report);
+                    } else {
+                        result.completeExceptionally(e instanceof CompletionException ? e.getCause() : e);
+                    }
+                });
+            } catch (Throwable e) {
+                result.completeExceptionally(e);
+            }
+        });
+        return result;
+    }
+
+    /**
+     * Shuts down the virtual-thread executor created by the no-argument constructor, after
+     * the running tasks finish. A caller-supplied executor is left alone.
+     */
+    @Override
+    public void close() {
+        if (ownsExecutor) {
+            executor.close();
+        }
+    }
+
+    // Groups the arrays into tasks and submits them, blocking while maxInFlight tasks are running
+    private <T> CompletableFuture<Report> submit(Collection<T[]> arrays, Comparator<? super T> c)
+            throws InterruptedException {
+
+        Objects.requireNonNull(c);
+        long start = System.nanoTime();
+        LongAdder taskNanos = new LongAdder();
+        List<CompletableFuture<Void>> tasks = new ArrayList<>();
+
+        int arrayCount = 0;
+        long elements = 0;
+        List<T[]> batch = new ArrayList<>();
+        long batchSize = 0;
+
+        for (T[] a : arrays) {
+            arrayCount++;
+            elements += a.length;
+            batch.add(a);
+            batchSize += a.length;
+
+            if (batchSize >= batchElements) {
+                tasks.add(launch(batch, c, taskNanos));
+                batch = new ArrayList<>();
+                batchSize = 0;
+            }
+        }
+        if (!batch.isEmpty()) {
+            tasks.add(launch(batch, c, taskNanos));
+        }
+
+        int count = arrayCount;
+        long total = elements;
+        int taskCount = tasks.size();
+        return CompletableFuture.allOf(tasks.toArray(CompletableFuture[]::new))
+                .thenApply(v -> new Report(count, total, taskCount, System.nanoTime() - start, taskNanos.sum()));
+    }
+
+    private <T> CompletableFuture<Void> launch(List<T[]> batch, Comparator<? super T> c, LongAdder taskNanos)
+            throws InterruptedException {
+
+        inFlight.acquire();
+        try {
+            return CompletableFuture.runAsync(() -> {
+                long taskStart = System.nanoTime();
+                RuntimeException failure = null;
+
+                // A failing array does not stop the rest of its batch from being sorted. An
+                // Error does, but the permit is still returned so later submissions can run.
+                try {
+                    for (T[] a : batch) {
+                        try {
+                            SortingUtility.sort(a, c);
+                        } catch (RuntimeException e) {
+                            if (failure == null) {
+                                failure = e;
+                            } else {
+                                failure.addSuppressed(e);
+                            }
+                        }
+                    }
+                } finally {
+                    taskNanos.add(System.nanoTime() - taskStart);
+                    inFlight.release();
+                }
+
+                if (failure != null) {
+                    throw failure;
+                }
+            }, executor);
+        } catch (RejectedExecutionException e) {
+            inFlight.release();
+            throw e;
+        }
+    }
+}
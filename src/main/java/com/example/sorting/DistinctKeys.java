@@ -0,0 +1,96 @@
+package com.example.sorting;
+
+import java.util.Arrays;
+import java.util.Comparator;
+
+/**
+ * The distinct keys of an input under a Comparator, for grouping equal elements.
+ *
+ * Keys are numbered in order of first appearance, and a sorted array of those ids is
+ * searched by binary search, so looking up an element costs log2(k) comparisons for k
+ * distinct keys. A Comparator can call elements equal that equals() does not, so the keys
+ * cannot be hashed. Inserting a new key shifts the sorted ids, which adds up to k^2/2 int
+ * moves, so the table stops accepting new keys at a fixed capacity.
+ */
+final class DistinctKeys<T> {
+
+    private final Comparator<? super T> c;
+    private final int maxKeys;
+
+    // Indexed by id
+    private Object[] keys = new Object[16];
+    private int[] counts = new int[16];
+
+    // Ids in ascending key order
+    private int[] order = new int[16];
+
+    private int size;
+
+    DistinctKeys(Comparator<? super T> c, int maxKeys) {
+        this.c = c;
+        this.maxKeys = maxKeys;
+    }
+
+    /*
+     * Returns the id of the key equal to x and counts one more element for it. A new key
+     * gets the next id. Returns -1 instead if x is a new key and maxKeys keys are already
+     * known.
+     */
+    @SuppressWarnings("unchecked")
+    int idOf(T x) {
+        int lo = 0;
+        int hi = size;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            int cmp = c.compare((T) keys[order[mid]], x);
+            if (cmp < 0) {
+                lo = mid + 1;
+            } else if (cmp > 0) {
+                hi = mid;
+            } else {
+                counts[order[mid]]++;
+                return order[mid];
+            }
+        }
+
+        if (size == maxKeys) {
+            return -1;
+        }
+        if (size == keys.length) {
+            int capacity = Math.min(maxKeys, 2 * size);
+            keys = Arrays.copyOf(keys, capacity);
+            counts = Arrays.copyOf(counts, capacity);
+            order = Arrays.copyOf(order, capacity);
+        }
+
+        int id = size;
+        keys[id] = x;
+        counts[id] = 1;
+        System.arraycopy(order, lo, order, lo + 1, size - lo);
+        order[lo] = id;
+        size++;
+        return id;
+    }
+
+    /*
+     * @return the number of distinct keys seen
+     */
+    int size() {
+        return size;
+    }
+
+    /*
+     * Returns, for every id, the index where its first element goes in the sorted output:
+     * the counts of all smaller keys added together.
+     */
+    int[] starts() {
+        int[] starts = new int[size];
+        int pos = 0;
+        for (int r = 0; r < size; r++) {
+            int id = order[r];
+            starts[id] = pos;
+            pos += counts[id];
+        }
+        return starts;
+    }
+}
@@ -0,0 +1,465 @@
+package com.example.sorting;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.PriorityQueue;
+
+/**
+ * Sorts files that are larger than the heap.
+ *
+ * The input is memory-mapped one chunk at a time. Each chunk is parsed into records, sorted
+ * in memory with SortingUtility.sort, and spilled to a temporary run file. The runs are then
+ * combined with a k-way heap merge over buffered sequential streams. When there are more
+ * runs than the merge fan-in, intermediate merge passes reduce them first.
+ *
+ * Two record formats are supported: UTF-8 text lines (a trailing "\r" is dropped and lines
+ * are written back with "\n") and fixed-width binary records. Peak heap use is roughly the
+ * chunk size times the in-memory overhead of the parsed records, plus one buffer per merged
+ * run. The sort is not stable.
+ *
+ * Configure an instance with the fluent setters, then call sortLines or sortFixedWidth.
+ * Instances are not thread-safe.
+ */
+public final class ExternalSorter {
+
+    // Default number of input bytes sorted in memory at a time
+    public static final long DEFAULT_CHUNK_BYTES = 64L * 1024 * 1024;
+
+    // Default maximum number of runs merged at once
+    public static final int DEFAULT_FAN_IN = 64;
+
+    // Buffer size for each run reader and writer
+    private static final int IO_BUFFER_BYTES = 64 * 1024;
+
+    // How many merged records between two merge progress reports
+    private static final int MERGE_PROGRESS_INTERVAL = 1 << 16;
+
+    /**
+     * The two phases reported to a ProgressListener.
+     */
+    public enum Phase {
+        /** Reading chunks, sorting them and writing runs; progress is in input bytes. */
+        SPLIT,
+        /** Merging runs; progress is in records written by the current merge pass. */
+        MERGE
+    }
+
+    /**
+     * Receives progress updates from an external sort.
+     */
+    @FunctionalInterface
+    public interface ProgressListener {
+
+        /**
+         * @param phase     the phase that made progress
+         * @param completed units completed so far in this phase (or merge pass)
+         * @param total     total units for this phase (or merge pass)
+         */
+        void progress(Phase phase, long completed, long total);
+    }
+
+    private long chunkBytes = DEFAULT_CHUNK_BYTES;
+    private int fanIn = DEFAULT_FAN_IN;
+    private Path tempDirectory;
+    private ProgressListener progressListener = (phase, completed, total) -> { };
+
+    /**
+     * Sets how many input bytes are mapped and sorted in memory at a time.
+     *
+     * @param chunkBytes the chunk size, between 1 and Integer.MAX_VALUE
+     * @return this sorter
+     * @throws IllegalArgumentException if chunkBytes is out of range
+     */
+    public ExternalSorter chunkBytes(long chunkBytes) {
+        if (chunkBytes <= 0 || chunkBytes > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("chunkBytes out of range: " + chunkBytes);
+        }
+        this.chunkBytes = chunkBytes;
+        return this;
+    }
+
+    /**
+     * Sets the maximum number of runs merged in one pass.
+     *
+     * @param fanIn the fan-in, at least 2
+     * @return this sorter
+     * @throws IllegalArgumentException if fanIn is less than 2
+     */
+    public ExternalSorter fanIn(int fanIn) {
+        if (fanIn < 2) {
+            throw new IllegalArgumentException("fanIn must be at least 2: " + fanIn);
+        }
+        this.fanIn = fanIn;
+        return this;
+    }
+
+    /**
+     * Sets the directory for temporary run files. By default the system temp directory is used.
+     *
+     * @param tempDirectory the directory, or null for the system default
+     * @return this sorter
+     */
+    public ExternalSorter tempDirectory(Path tempDirectory) {
+        this.tempDirectory = tempDirectory;
+        return this;
+    }
+
+    /**
+     * Sets the listener that receives progress updates.
+     *
+     * @param progressListener the listener
+     * @return this sorter
+     */
+    public ExternalSorter progressListener(ProgressListener progressListener) {
+        this.progressListener = Objects.requireNonNull(progressListener);
+        return this;
+    }
+
+    /**
+     * Sorts the UTF-8 lines of a text file in String.compareTo order.
+     *
+     * @param input  the file to sort
+     * @param output the file to write (replaced if it exists)
+     * @throws IOException if reading or writing fails, or a line is longer than the chunk size
+     */
+    public void sortLines(Path input, Path output) throws IOException {
+        sortLines(input, output, Comparator.naturalOrder());
+    }
+
+    /**
+     * Sorts the UTF-8 lines of a text file in the order induced by a Comparator.
+     *
+     * @param input  the file to sort
+     * @param output the file to write (replaced if it exists)
+     * @param c      the comparator that determines the order of the lines
+     * @throws IOException if reading or writing fails, or a line is longer than the chunk size
+     */
+    public void sortLines(Path input, Path output, Comparator<? super String> c) throws IOException {
+        sort(input, output, new LineFormat(), c);
+    }
+
+    /**
+     * Sorts a file of fixed-width binary records by an unsigned byte-wise key inside each record.
+     *
+     * @param input        the file to sort; its size must be a multiple of recordLength
+     * @param output       the file to write (replaced if it exists)
+     * @param recordLength the length of every record in bytes
+     * @param keyOffset    the offset of the key within a record
+     * @param keyLength    the length of the key in bytes
+     * @throws IOException              if reading or writing fails, or the file is not made of whole records
+     * @throws IllegalArgumentException if the key does not fit in the record
+     */
+    public void sortFixedWidth(Path input, Path output, int recordLength, int keyOffset, int keyLength)
+            throws IOException {
+        if (keyOffset < 0 || keyLength < 0 || keyOffset + keyLength > recordLength) {
+            throw new IllegalArgumentException("key [" + keyOffset + ", " + (keyOffset + keyLength)
+                    + ") does not fit in a record of " + recordLength + " bytes");
+        }
+
+        int keyEnd = keyOffset + keyLength;
+        sortFixedWidth(input, output, recordLength,
+                (x, y) -> Arrays.compareUnsigned(x, keyOffset, keyEnd, y, keyOffset, keyEnd));
+    }
+
+    /**
+     * Sorts a file of fixed-width binary records in the order induced by a Comparator.
+     *
+     * @param input        the file to sort; its size must be a multiple of recordLength
+     * @param output       the file to write (replaced if it exists)
+     * @param recordLength the length of every record in bytes
+     * @param c            the comparator that determines the order of the records
+     * @throws IOException if reading or writing fails, or the file is not made of whole records
+     */
+    public void sortFixedWidth(Path input, Path output, int recordLength, Comparator<? super byte[]> c)
+            throws IOException {
+        if (recordLength <= 0) {
+            throw new IllegalArgumentException("recordLength must be positive: " + recordLength);
+        }
+        sort(input, output, new FixedWidthFormat(recordLength), c);
+    }
+
+    private <R> void sort(Path input, Path output, RecordFormat<R> format, Comparator<? super R> c)
+            throws IOException {
+
+        Objects.requireNonNull(c);
+        List<Path> runs = new ArrayList<>();
+
+        try {
+            long records = split(input, format, c, runs);
+
+            // Intermediate passes until the remaining runs fit into one merge
+            while (runs.size() > fanIn) {
+                List<Path> merged = new ArrayList<>();
+                try {
+                    for (int from = 0; from < runs.size(); from += fanIn) {
+                        List<Path> group = runs.subList(from, Math.min(from + fanIn, runs.size()));
+                        Path run = createRunFile();
+                        merged.add(run);
+                        merge(group, run, format, c, records);
+                    }
+                } finally {
+                    deleteAll(runs);
+                    runs.clear();
+                    runs.addAll(merged);
+                }
+            }
+
+            merge(runs, output, format, c, records);
+        } finally {
+            deleteAll(runs);
+        }
+    }
+
+    // Maps the input chunk by chunk, sorts each chunk and writes it to a new run. Returns the record count.
+    private <R> long split(Path input, RecordFormat<R> format, Comparator<? super R> c, List<Path> runs)
+            throws IOException {
+
+        long records = 0;
+
+        try (FileChannel channel = FileChannel.open(input, StandardOpenOption.READ)) {
+            long size = channel.size();
+            long position = 0;
+            List<R> chunk = new ArrayList<>();
+
+            while (position < size) {
+                long length = Math.min(chunkBytes, size - position);
+                boolean last = position + length == size;
+                MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, position, length);
+
+                chunk.clear();
+                int consumed = format.parse(buffer, (int) length, last, chunk);
+                position += consumed;
+
+                // Sort the chunk in memory with the existing adaptive sort and spill it
+                @SuppressWarnings("unchecked")
+                R[] sorted = (R[]) chunk.toArray();
+                SortingUtility.sort(sorted, c);
+
+                Path run = createRunFile();
+                runs.add(run);
+                try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(run), IO_BUFFER_BYTES)) {
+                    for (R record : sorted) {
+                        format.write(record, out);
+                    }
+                }
+
+                records += sorted.length;
+                progressListener.progress(Phase.SPLIT, position, size);
+            }
+        }
+
+        return records;
+    }
+
+    // k-way merge of the given runs into target using a heap ordered by each run's current record
+    private <R> void merge(List<Path> runs, Path target, RecordFormat<R> format, Comparator<? super R> c,
+                           long totalRecords) throws IOException {
+
+        List<RunReader<R>> readers = new ArrayList<>();
+
+        // Equal records come out in run order, which keeps the merge deterministic
+        PriorityQueue<RunReader<R>> heap = new PriorityQueue<>((x, y) -> {
+            int cmp = c.compare(x.current, y.current);
+            return cmp != 0 ? cmp : Integer.compare(x.index, y.index);
+        });
+
+        try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(target), IO_BUFFER_BYTES)) {
+            for (Path run : runs) {
+                RunReader<R> reader = new RunReader<>(readers.size(), format,
+                        new BufferedInputStream(Files.newInputStream(run), IO_BUFFER_BYTES));
+                readers.add(reader);
+                if (reader.advance()) {
+                    heap.add(reader);
+                }
+            }
+
+            long written = 0;
+            while (!heap.isEmpty()) {
+                RunReader<R> reader = heap.poll();
+                format.write(reader.current, out);
+                written++;
+
+                if (reader.advance()) {
+                    heap.add(reader);
+                }
+                if (written % MERGE_PROGRESS_INTERVAL == 0) {
+                    progressListener.progress(Phase.MERGE, written, totalRecords);
+                }
+            }
+            progressListener.progress(Phase.MERGE, written, totalRecords);
+        } finally {
+            for (RunReader<R> reader : readers) {
+                reader.in.close();
+            }
+        }
+    }
+
+    private Path createRunFile() throws IOException {
+        return tempDirectory == null
+                ? Files.createTempFile("sort-run-", ".tmp")
+                : Files.createTempFile(tempDirectory, "sort-run-", ".tmp");
+    }
+
+    private static void deleteAll(List<Path> files) throws IOException {
+        for (Path file : files) {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    // One run being merged, with its current (smallest unread) record
+    private static final class RunReader<R> {
+
+        final int index;
+        final RecordFormat<R> format;
+        final InputStream in;
+        R current;
+
+        RunReader(int index, RecordFormat<R> format, InputStream in) {
+            this.index = index;
+            this.format = format;
+            this.in = in;
+        }
+
+        boolean advance() throws IOException {
+            current = format.read(in);
+            return current != null;
+        }
+    }
+
+    // How records are parsed from a mapped chunk, written to a run and read back
+    private interface RecordFormat<R> {
+
+        /*
+         * Parses whole records from buffer[0..length) into out and returns the number of bytes
+         * consumed. A partial record at the end is left for the next chunk unless last is true.
+         */
+        int parse(MappedByteBuffer buffer, int length, boolean last, List<R> out) throws IOException;
+
+        void write(R record, OutputStream out) throws IOException;
+
+        // Returns the next record, or null at the end of the stream
+        R read(InputStream in) throws IOException;
+    }
+
+    private static final class LineFormat implements RecordFormat<String> {
+
+        private byte[] lineBuffer = new byte[256];
+
+        @Override
+        public int parse(MappedByteBuffer buffer, int length, boolean last, List<String> out) throws IOException {
+
+            int start = 0;
+            for (int i = 0; i < length; i++) {
+                if (buffer.get(i) == '\n') {
+                    out.add(decode(buffer, start, i));
+                    start = i + 1;
+                }
+            }
+
+            if (start < length) {
+                if (last) {
+                    // Final line without a trailing newline
+                    out.add(decode(buffer, start, length));
+                    return length;
+                }
+                if (start == 0) {
+                    throw new IOException("line longer than the chunk size of " + length + " bytes");
+                }
+            }
+            return start;
+        }
+
+        private static String decode(MappedByteBuffer buffer, int from, int to) {
+            if (to > from && buffer.get(to - 1) == '\r') {
+                to--;
+            }
+            byte[] bytes = new byte[to - from];
+            buffer.get(from, bytes);
+            return new String(bytes, StandardCharsets.UTF_8);
+        }
+
+        @Override
+        public void write(String record, OutputStream out) throws IOException {
+            out.write(record.getBytes(StandardCharsets.UTF_8));
+            out.write('\n');
+        }
+
+        @Override
+        public String read(InputStream in) throws IOException {
+            int length = 0;
+            int b;
+            while ((b = in.read()) != -1 && b != '\n') {
+                if (length == lineBuffer.length) {
+                    lineBuffer = Arrays.copyOf(lineBuffer, length * 2);
+                }
+                lineBuffer[length++] = (byte) b;
+            }
+
+            if (b == -1 && length == 0) {
+                return null;
+            }
+            return new String(lineBuffer, 0, length, StandardCharsets.UTF_8);
+        }
+    }
+
+    private static final class FixedWidthFormat implements RecordFormat<byte[]> {
+
+        private final int recordLength;
+
+        FixedWidthFormat(int recordLength) {
+            this.recordLength = recordLength;
+        }
+
+        @Override
+        public int parse(MappedByteBuffer buffer, int length, boolean last, List<byte[]> out) throws IOException {
+
+            int whole = length - length % recordLength;
+            if (last && whole != length) {
+                throw new IOException("file size is not a multiple of the record length " + recordLength);
+            }
+            if (whole == 0) {
+                throw new IOException("chunk size is smaller than the record length " + recordLength);
+            }
+
+            for (int offset = 0; offset < whole; offset += recordLength) {
+                byte[] record = new byte[recordLength];
+                buffer.get(offset, record);
+                out.add(record);
+            }
+            return whole;
+        }
+
+        @Override
+        public void write(byte[] record, OutputStream out) throws IOException {
+            out.write(record);
+        }
+
+        @Override
+        public byte[] read(InputStream in) throws IOException {
+            byte[] record = new byte[recordLength];
+            int read = in.readNBytes(record, 0, recordLength);
+            if (read == 0) {
+                return null;
+            }
+            if (read < recordLength) {
+                throw new EOFException("truncated record in run file");
+            }
+            return record;
+        }
+    }
+}
@@ -0,0 +1,141 @@
+package com.example.sorting;
+
+import java.util.Arrays;
+
+/**
+ * Gap sequences for Shell Sort.
+ *
+ * Each sequence is generated once, in ascending order, up to the largest gap that fits in an
+ * int, and cached as a primitive array. A sort starts at the largest gap below the array
+ * length and works down to 1, so the sequence automatically scales with the input size and
+ * no per-call allocation or unboxing takes place.
+ */
+public enum GapSequence {
+
+    /**
+     * Ciura's empirically tuned gaps (1, 4, 10, 23, 57, 132, 301, 701), extended beyond 701
+     * by repeatedly multiplying by 2.25. The default for every Shell Sort in SortingUtility.
+     */
+    CIURA {
+        @Override
+        int[] generate() {
+            long[] ciura = {1, 4, 10, 23, 57, 132, 301, 701};
+            long[] gaps = Arrays.copyOf(ciura, 64);
+            int count = ciura.length;
+
+            long gap = (long) (gaps[count - 1] * 2.25);
+            while (gap <= Integer.MAX_VALUE) {
+                gaps[count++] = gap;
+                gap = (long) (gap * 2.25);
+            }
+            return toIntArray(gaps, count);
+        }
+    },
+
+    /**
+     * Tokuda's sequence: ceil(t(k)) with t(1) = 1 and t(k) = 2.25 t(k-1) + 1,
+     * giving 1, 4, 9, 20, 46, 103, 233, 525, ...
+     */
+    TOKUDA {
+        @Override
+        int[] generate() {
+            long[] gaps = new long[64];
+            int count = 0;
+
+            double t = 1.0;
+            while (Math.ceil(t) <= Integer.MAX_VALUE) {
+                gaps[count++] = (long) Math.ceil(t);
+                t = 2.25 * t + 1.0;
+            }
+            return toIntArray(gaps, count);
+        }
+    },
+
+    /**
+     * Sedgewick's 1986 sequence 4^k + 3 * 2^(k-1) + 1 prefixed with 1,
+     * giving 1, 8, 23, 77, 281, 1073, 4193, ... (O(n^(4/3)) worst case).
+     */
+    SEDGEWICK {
+        @Override
+        int[] generate() {
+            long[] gaps = new long[64];
+            int count = 0;
+            gaps[count++] = 1;
+
+            for (int k = 1; ; k++) {
+                long gap = (1L << (2 * k)) + 3L * (1L << (k - 1)) + 1;
+                if (gap > Integer.MAX_VALUE) {
+                    break;
+                }
+                gaps[count++] = gap;
+            }
+            return toIntArray(gaps, count);
+        }
+    },
+
+    /**
+     * Pratt's sequence of all 3-smooth numbers 2^p * 3^q, giving 1, 2, 3, 4, 6, 8, 9, 12, ...
+     * It has the best known worst case, O(n log^2 n), at the price of many more passes.
+     */
+    PRATT {
+        @Override
+        int[] generate() {
+            long[] gaps = new long[1024];
+            int count = 0;
+
+            for (long pow2 = 1; pow2 <= Integer.MAX_VALUE; pow2 *= 2) {
+                for (long gap = pow2; gap <= Integer.MAX_VALUE; gap *= 3) {
+                    gaps[count++] = gap;
+                }
+            }
+            Arrays.sort(gaps, 0, count);
+            return toIntArray(gaps, count);
+        }
+    };
+
+    // Ascending gaps starting with 1
+    private final int[] gaps = generate();
+
+    abstract int[] generate();
+
+    /*
+     * Returns the cached gaps in ascending order. The array is shared and must not be modified.
+     */
+    int[] gaps() {
+        return gaps;
+    }
+
+    /*
+     * Returns the index of the largest gap that is smaller than n, or -1 if n < 2.
+     * A Shell Sort walks the gaps from this index down to 0.
+     */
+    int startIndex(int n) {
+        int index = Arrays.binarySearch(gaps, n);
+
+        // binarySearch returns -(insertion point) - 1 when n itself is not a gap
+        return (index >= 0 ? index : -index - 1) - 1;
+    }
+
+    /**
+     * Returns the gaps this sequence uses for an array of the given length, largest first.
+     *
+     * @param n the array length
+     * @return a new array with the gaps, ending with 1 (empty if n < 2)
+     */
+    public int[] gapsFor(int n) {
+        int start = startIndex(n);
+        int[] result = new int[start + 1];
+        for (int i = 0; i <= start; i++) {
+            result[i] = gaps[start - i];
+        }
+        return result;
+    }
+
+    private static int[] toIntArray(long[] values, int count) {
+        int[] result = new int[count];
+        for (int i = 0; i < count; i++) {
+            result[i] = (int) values[i];
+        }
+        return result;
+    }
+}
@@ -0,0 +1,329 @@
+package com.example.sorting;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.PriorityQueue;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Collector;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Sorts elements that arrive one at a time, without first collecting them into an array.
+ *
+ * New elements go into a small buffer. When the buffer is full it is sorted with binary
+ * insertion (binaryGnomeSort) and becomes a sorted run. Runs of similar size are merged as
+ * they fill, like carries in a binary counter. That keeps O(log n) runs, also after addAll
+ * with another sorter, and does most of the sorting work while input is still arriving,
+ * instead of all at once at the end.
+ *
+ * iterator() and stream() emit the sorted output lazily. They k-way merge the remaining runs
+ * as elements are consumed, so the first element is available after O(log n) work and a
+ * consumer that stops early never pays for the rest of the merge. The sort is stable.
+ *
+ * Adding elements while an iterator is in use makes that iterator throw
+ * ConcurrentModificationException. Instances are not thread-safe.
+ *
+ * @param <T> the type of elements being sorted
+ */
+public final class IncrementalSorter<T> implements Iterable<T> {
+
+    // Default number of elements buffered before they become a sorted run
+    public static final int DEFAULT_BUFFER_SIZE = 64;
+
+    private final Comparator<? super T> c;
+    private final T[] buffer;
+    private int buffered;
+
+    // Sorted runs, oldest first; sizes roughly halve from one run to the next
+    private final List<T[]> runs = new ArrayList<>();
+
+    private long size;
+    private int modCount;
+
+    /**
+     * Creates a sorter with the default buffer size.
+     *
+     * @param c the comparator that determines the order of the elements
+     */
+    public IncrementalSorter(Comparator<? super T> c) {
+        this(c, DEFAULT_BUFFER_SIZE);
+    }
+
+    /**
+     * Creates a sorter with the given buffer size.
+     *
+     * @param c          the comparator that determines the order of the elements
+     * @param bufferSize how many elements are buffered before they are sorted into a run
+     * @throws IllegalArgumentException if bufferSize is not positive
+     */
+    @SuppressWarnings("unchecked")
+    public IncrementalSorter(Comparator<? super T> c, int bufferSize) {
+        if (bufferSize <= 0) {
+            throw new IllegalArgumentException("bufferSize must be positive: " + bufferSize);
+        }
+        this.c = Objects.requireNonNull(c);
+        this.buffer = (T[]) new Object[bufferSize];
+    }
+
+    /**
+     * Creates a sorter that orders Comparable elements by their natural order.
+     *
+     * @return a new sorter
+     */
+    public static <T extends Comparable<T>> IncrementalSorter<T> naturalOrder() {
+        return new IncrementalSorter<>(Comparator.naturalOrder());
+    }
+
+    /**
+     * Adds one element.
+     *
+     * @param e the element to add
+     */
+    public void add(T e) {
+        buffer[buffered++] = e;
+        size++;
+        modCount++;
+
+        if (buffered == buffer.length) {
+            flush();
+        }
+    }
+
+    /**
+     * Adds every remaining element of an iterator.
+     *
+     * @param elements the elements to add
+     */
+    public void addAll(Iterator<? extends T> elements) {
+        while (elements.hasNext()) {
+            add(elements.next());
+        }
+    }
+
+    /**
+     * Adds every element of an iterable.
+     *
+     * @param elements the elements to add
+     */
+    public void addAll(Iterable<? extends T> elements) {
+        addAll(elements.iterator());
+    }
+
+    /**
+     * Moves all elements of another sorter into this one. Elements of this sorter come before
+     * equal elements of the other one. The other sorter is left empty.
+     *
+     * @param other the sorter to drain; must use the same ordering
+     * @throws IllegalArgumentException if other is this sorter
+     */
+    public void addAll(IncrementalSorter<? extends T> other) {
+        if (other == this) {
+            throw new IllegalArgumentException("cannot move a sorter's elements into itself");
+        }
+        flush();
+        other.flush();
+
+        // The other runs are newer than ours; feeding them in one by one, oldest first, keeps
+        // the run sizes shrinking geometrically
+        for (T[] run : other.runs) {
+            runs.add(run);
+            collapse();
+        }
+        size += other.size;
+        modCount++;
+
+        other.runs.clear();
+        other.size = 0;
+        other.modCount++;
+    }
+
+    /**
+     * @return the number of elements added so far
+     */
+    public long size() {
+        return size;
+    }
+
+    // Number of sorted runs, not counting the buffer; for tests of the run invariant
+    int runCount() {
+        return runs.size();
+    }
+
+    /**
+     * Returns an iterator over the elements in sorted order. The merge happens lazily as the
+     * iterator is advanced. The elements stay in the sorter.
+     *
+     * @return a sorted iterator
+     */
+    @Override
+    public Iterator<T> iterator() {
+        flush();
+        return new MergingIterator();
+    }
+
+    /**
+     * @return a sequential stream of the elements in sorted order, merged lazily
+     */
+    public Stream<T> stream() {
+        return StreamSupport.stream(
+                Spliterators.spliterator(iterator(), size, Spliterator.ORDERED | Spliterator.SORTED), false);
+    }
+
+    /**
+     * @return the elements in sorted order as a new list
+     */
+    public List<T> toList() {
+        flush();
+        List<T> result = new ArrayList<>((int) Math.min(size, Integer.MAX_VALUE));
+        if (runs.size() == 1) {
+            result.addAll(Arrays.asList(runs.get(0)));
+        } else {
+            iterator().forEachRemaining(result::add);
+        }
+        return result;
+    }
+
+    /**
+     * A Collector that sorts the stream elements incrementally and returns them as a list.
+     * Parallel streams sort each part separately and merge the parts in the combiner.
+     *
+     * @param c the comparator that determines the order of the elements
+     * @return the collector
+     */
+    public static <T> Collector<T, ?, List<T>> toSortedList(Comparator<? super T> c) {
+        return Collector.of(() -> new IncrementalSorter<T>(c), IncrementalSorter::add,
+                IncrementalSorter::combine, IncrementalSorter::toList);
+    }
+
+    /**
+     * A Collector that sorts the stream elements incrementally and returns a lazily merged
+     * sorted stream of them.
+     *
+     * @param c the comparator that determines the order of the elements
+     * @return the collector
+     */
+    public static <T> Collector<T, ?, Stream<T>> toSortedStream(Comparator<? super T> c) {
+        return Collector.of(() -> new IncrementalSorter<T>(c), IncrementalSorter::add,
+                IncrementalSorter::combine, IncrementalSorter::stream);
+    }
+
+    private IncrementalSorter<T> combine(IncrementalSorter<T> other) {
+        addAll(other);
+        return this;
+    }
+
+    // Sorts the buffered elements into a new run and merges runs of similar size
+    private void flush() {
+        if (buffered == 0) {
+            return;
+        }
+
+        T[] run = Arrays.copyOf(buffer, buffered);
+        SortingUtility.binaryGnomeSort(run, c);
+        Arrays.fill(buffer, 0, buffered, null);
+        buffered = 0;
+
+        runs.add(run);
+        collapse();
+    }
+
+    /*
+     * Merges neighbouring runs until every run is longer than the next one, and longer than
+     * the next two together (TimSort's invariant). Run sizes then grow at least like the
+     * Fibonacci numbers from newest to oldest, so there are O(log n) runs even when runs of
+     * unrelated sizes come in through addAll. For runs of equal size this merges exactly like
+     * a binary counter.
+     */
+    private void collapse() {
+        while (runs.size() >= 2) {
+            int last = runs.size() - 1;
+            int newer = runs.get(last).length;
+            int older = runs.get(last - 1).length;
+
+            if (last >= 2 && runs.get(last - 2).length <= older + newer) {
+                // Merge the middle run with the smaller of its neighbours
+                mergeAt(runs.get(last - 2).length < newer ? last - 2 : last - 1);
+            } else if (older <= newer) {
+                mergeAt(last - 1);
+            } else {
+                break;
+            }
+        }
+    }
+
+    // Replaces runs i and i + 1 with their merge
+    private void mergeAt(int i) {
+        runs.set(i, merge(runs.get(i), runs.remove(i + 1)));
+    }
+
+    // Stable merge: on ties the element of the older run comes first
+    private T[] merge(T[] older, T[] newer) {
+        T[] merged = Arrays.copyOf(older, older.length + newer.length);
+        int i = 0;
+        int j = 0;
+        int k = 0;
+
+        while (i < older.length && j < newer.length) {
+            if (c.compare(newer[j], older[i]) < 0) {
+                merged[k++] = newer[j++];
+            } else {
+                merged[k++] = older[i++];
+            }
+        }
+        System.arraycopy(older, i, merged, k, older.length - i);
+        System.arraycopy(newer, j, merged, k + older.length - i, newer.length - j);
+        return merged;
+    }
+
+    // k-way merge over the runs, ordered by each run's next element and then by run age
+    private final class MergingIterator implements Iterator<T> {
+
+        private final int expectedModCount = modCount;
+        private final PriorityQueue<int[]> heap;
+        private final List<T[]> sources = new ArrayList<>(runs);
+
+        MergingIterator() {
+            // Heap entries are {run index, position in run}
+            heap = new PriorityQueue<>(Math.max(1, sources.size()), (x, y) -> {
+                int cmp = c.compare(sources.get(x[0])[x[1]], sources.get(y[0])[y[1]]);
+                return cmp != 0 ? cmp : Integer.compare(x[0], y[0]);
+            });
+            for (int r = 0; r < sources.size(); r++) {
+                heap.add(new int[]{r, 0});
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            return !heap.isEmpty();
+        }
+
+        @Override
+        public T next() {
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+            int[] top = heap.poll();
+            if (top == null) {
+                throw new NoSuchElementException();
+            }
+
+            T[] run = sources.get(top[0]);
+            T next = run[top[1]];
+
+            // Advance within the run and put it back if it has more elements
+            if (++top[1] < run.length) {
+                heap.add(top);
+            }
+            return next;
+        }
+    }
+}
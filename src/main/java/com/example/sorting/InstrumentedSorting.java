@@ -0,0 +1,273 @@
+package com.example.sorting;
+
+import java.util.Comparator;
+
+/**
+ * Instrumented copies of the SortingUtility algorithms that record comparisons, moves,
+ * passes and elapsed time into a SortMetrics instance.
+ *
+ * The algorithms here make exactly the same comparisons and moves as their SortingUtility
+ * counterparts, but they live in a separate class so the plain sorts carry no counters,
+ * branches or allocations at all. Calls that sort at least getJfrThreshold() elements also
+ * emit a JFR event ("com.example.sorting.Sort") when a recording has it enabled.
+ */
+public final class InstrumentedSorting {
+
+    // Default minimum length for a sort to emit a JFR event
+    public static final int DEFAULT_JFR_THRESHOLD = 10_000;
+
+    private static volatile int jfrThreshold =
+            Integer.getInteger("com.example.sorting.jfrThreshold", DEFAULT_JFR_THRESHOLD);
+
+    private InstrumentedSorting() {
+    }
+
+    /**
+     * @return the minimum number of elements for a sort to emit a JFR event
+     */
+    public static int getJfrThreshold() {
+        return jfrThreshold;
+    }
+
+    /**
+     * Sets the minimum number of elements for a sort to emit a JFR event. The initial value
+     * comes from the system property com.example.sorting.jfrThreshold, or
+     * DEFAULT_JFR_THRESHOLD if it is not set.
+     *
+     * @param threshold the new threshold; 0 emits an event for every call
+     * @throws IllegalArgumentException if threshold is negative
+     */
+    public static void setJfrThreshold(int threshold) {
+        if (threshold < 0) {
+            throw new IllegalArgumentException("threshold must not be negative: " + threshold);
+        }
+        jfrThreshold = threshold;
+    }
+
+    /**
+     * Gnome Sort, recording into metrics.
+     *
+     * @param a       the array of Comparable objects to sort (modified in place)
+     * @param metrics receives the counts for this call
+     */
+    public static <T extends Comparable<T>> void gnomeSort(T[] a, SortMetrics metrics) {
+        gnomeSort(a, Comparator.naturalOrder(), metrics);
+    }
+
+    /**
+     * Gnome Sort with a Comparator, recording into metrics.
+     *
+     * @param a       the array to sort (modified in place)
+     * @param c       the comparator that determines the order of the array
+     * @param metrics receives the counts for this call
+     */
+    public static <T> void gnomeSort(T[] a, Comparator<? super T> c, SortMetrics metrics) {
+
+        SortEvent event = beginEvent(a.length);
+        long start = System.nanoTime();
+        long comparisons = 0;
+        long moves = 0;
+
+        int pos = 0;
+
+        while (pos < a.length) {
+            if (pos == 0) {
+                pos = pos + 1;
+                continue;
+            }
+
+            comparisons++;
+            if (c.compare(a[pos], a[pos - 1]) >= 0) {
+                pos = pos + 1;
+            } else {
+                swap(a, pos, pos - 1);
+                moves += 2;
+                pos = pos - 1;
+            }
+        }
+
+        record(metrics, event, "gnomeSort", a.length, start, comparisons, moves, 0);
+    }
+
+    /**
+     * Cocktail Shaker Sort, recording into metrics.
+     *
+     * @param a       the array of Comparable objects to sort (modified in place)
+     * @param metrics receives the counts for this call
+     */
+    public static <T extends Comparable<T>> void cocktailShakerSort(T[] a, SortMetrics metrics) {
+        cocktailShakerSort(a, Comparator.naturalOrder(), metrics);
+    }
+
+    /**
+     * Cocktail Shaker Sort (shrinking window) with a Comparator, recording into metrics.
+     * Every forward or backward sweep counts as one pass.
+     *
+     * @param a       the array to sort (modified in place)
+     * @param c       the comparator that determines the order of the array
+     * @param metrics receives the counts for this call
+     */
+    public static <T> void cocktailShakerSort(T[] a, Comparator<? super T> c, SortMetrics metrics) {
+
+        SortEvent event = beginEvent(a.length);
+        long start = System.nanoTime();
+        long comparisons = 0;
+        long moves = 0;
+        long passes = 0;
+
+        boolean swapped;
+        int begin = 0;
+        int end = a.length - 1;
+
+        do {
+            swapped = false;
+            int lastSwap = begin;
+
+            // Forward pass
+            passes++;
+            for (int i = begin; i < end; i++) {
+                comparisons++;
+                if (c.compare(a[i], a[i + 1]) > 0) {
+                    swap(a, i, i + 1);
+                    moves += 2;
+                    swapped = true;
+                    lastSwap = i;
+                }
+            }
+            end = lastSwap;
+
+            if (!swapped) {
+                break;
+            }
+
+            swapped = false;
+            lastSwap = end;
+
+            // Backward pass
+            passes++;
+            for (int i = end - 1; i >= begin; i--) {
+                comparisons++;
+                if (c.compare(a[i], a[i + 1]) > 0) {
+                    swap(a, i, i + 1);
+                    moves += 2;
+                    swapped = true;
+                    lastSwap = i;
+                }
+            }
+            begin = lastSwap + 1;
+        } while (swapped);
+
+        record(metrics, event, "cocktailShakerSort", a.length, start, comparisons, moves, passes);
+    }
+
+    /**
+     * Shell Sort with the Ciura gap sequence, recording into metrics.
+     *
+     * @param a       the array of Comparable objects to sort (modified in place)
+     * @param metrics receives the counts for this call
+     */
+    public static <T extends Comparable<T>> void shellSort(T[] a, SortMetrics metrics) {
+        shellSort(a, Comparator.naturalOrder(), GapSequence.CIURA, metrics);
+    }
+
+    /**
+     * Shell Sort with a Comparator and the Ciura gap sequence, recording into metrics.
+     *
+     * @param a       the array to sort (modified in place)
+     * @param c       the comparator that determines the order of the array
+     * @param metrics receives the counts for this call
+     */
+    public static <T> void shellSort(T[] a, Comparator<? super T> c, SortMetrics metrics) {
+        shellSort(a, c, GapSequence.CIURA, metrics);
+    }
+
+    /**
+     * Shell Sort with a Comparator and the given gap sequence, recording into metrics.
+     * Every gap counts as one pass.
+     *
+     * @param a        the array to sort (modified in place)
+     * @param c        the comparator that determines the order of the array
+     * @param sequence the gap sequence to use
+     * @param metrics  receives the counts for this call
+     */
+    public static <T> void shellSort(T[] a, Comparator<? super T> c, GapSequence sequence, SortMetrics metrics) {
+
+        SortEvent event = beginEvent(a.length);
+        long start = System.nanoTime();
+        long comparisons = 0;
+        long moves = 0;
+        long passes = 0;
+
+        int[] gaps = sequence.gaps();
+        int n = a.length;
+
+        for (int g = sequence.startIndex(n); g >= 0; g--) {
+            int gap = gaps[g];
+            passes++;
+
+            for (int i = gap; i < n; i += 1) {
+                T temp = a[i];
+
+                int j;
+                for (j = i; j >= gap; j -= gap) {
+                    comparisons++;
+                    if (c.compare(a[j - gap], temp) <= 0) {
+                        break;
+                    }
+                    a[j] = a[j - gap];
+                    moves++;
+                }
+
+                a[j] = temp;
+                moves++;
+            }
+        }
+
+        record(metrics, event, "shellSort", a.length, start, comparisons, moves, passes);
+    }
+
+    // Only allocates an event for sorts at or above the threshold, and only while JFR has it enabled
+    private static SortEvent beginEvent(int length) {
+        if (length < jfrThreshold) {
+            return null;
+        }
+
+        SortEvent event = new SortEvent();
+        if (!event.isEnabled()) {
+            return null;
+        }
+        event.begin();
+        return event;
+    }
+
+    private static void record(SortMetrics metrics, SortEvent event, String algorithm, int length,
+                               long start, long comparisons, long moves, long passes) {
+
+        metrics.elapsedNanos += System.nanoTime() - start;
+        metrics.comparisons += comparisons;
+        metrics.moves += moves;
+        metrics.passes += passes;
+
+        if (event != null) {
+            event.end();
+            if (event.shouldCommit()) {
+                event.algorithm = algorithm;
+                event.length = length;
+                event.comparisons = comparisons;
+                event.moves = moves;
+                event.passes = passes;
+                event.commit();
+            }
+        }
+
+        metrics.completed(algorithm, length);
+    }
+
+    private static <T> void swap(T[] data, int index1, int index2) {
+
+        T temp = data[index1];
+        data[index1] = data[index2];
+        data[index2] = temp;
+
+    }
+}
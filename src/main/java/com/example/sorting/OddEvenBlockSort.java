@@ -0,0 +1,122 @@
+package com.example.sorting;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Fork/Join task for one phase of a block odd-even transposition sort.
+ *
+ * The array is cut into contiguous blocks that are first sorted on their own. After that,
+ * each even phase merge-splits the block pairs (0,1), (2,3), ... and each odd phase the pairs
+ * (1,2), (3,4), ...: the smaller half of the two blocks stays on the left and the larger half
+ * on the right. The pairs of one phase are disjoint, so they run in parallel in lock-step,
+ * and because every worker owns whole blocks, two workers never write into the same cache
+ * line except at block boundaries. Like Cocktail Shaker Sort, the sort stops as soon as a
+ * phase and the one after it change nothing. Merges prefer the left block on ties, so the
+ * sort is stable.
+ */
+final class OddEvenBlockSort<T> extends RecursiveTask<Boolean> {
+
+    private static final long serialVersionUID = 1L;
+
+    // ForkJoinTask is Serializable, but these tasks never leave their pool
+    private final transient T[] a;
+    private final transient Comparator<? super T> c;
+    private final transient T[] scratch;
+    private final int blockSize;
+    private final int fromBlock;
+    private final int toBlock;
+    private final boolean merge;
+
+    /*
+     * With merge false the task sorts the blocks fromBlock..toBlock-1 one by one. With merge
+     * true it merge-splits the pairs (fromBlock, fromBlock+1), (fromBlock+2, fromBlock+3), ...
+     * below toBlock.
+     */
+    private OddEvenBlockSort(T[] a, Comparator<? super T> c, T[] scratch, int blockSize,
+                             int fromBlock, int toBlock, boolean merge) {
+        this.a = a;
+        this.c = c;
+        this.scratch = scratch;
+        this.blockSize = blockSize;
+        this.fromBlock = fromBlock;
+        this.toBlock = toBlock;
+        this.merge = merge;
+    }
+
+    /*
+     * Sorts the array as the given number of blocks, running every phase on the pool.
+     */
+    static <T> void sort(T[] a, Comparator<? super T> c, ForkJoinPool pool, int blocks) {
+
+        int n = a.length;
+        int blockSize = (n + blocks - 1) / blocks;
+        blocks = (n + blockSize - 1) / blockSize;
+        T[] scratch = Arrays.copyOf(a, n);
+
+        pool.invoke(new OddEvenBlockSort<>(a, c, scratch, blockSize, 0, blocks, false));
+
+        // blocks phases always suffice; stop earlier once an even and an odd phase in a row
+        // have both found every boundary in order
+        int quietPhases = 0;
+        for (int phase = 0; phase < blocks && quietPhases < 2; phase++) {
+            int first = phase & 1;
+            boolean changed = first + 1 < blocks
+                    && pool.invoke(new OddEvenBlockSort<>(a, c, scratch, blockSize, first, blocks, true));
+            quietPhases = changed ? 0 : quietPhases + 1;
+        }
+    }
+
+    @Override
+    protected Boolean compute() {
+
+        int step = merge ? 2 : 1;
+        int units = merge ? (toBlock - fromBlock) / 2 : toBlock - fromBlock;
+
+        if (units > 1) {
+            int mid = fromBlock + (units / 2) * step;
+            OddEvenBlockSort<T> left = new OddEvenBlockSort<>(a, c, scratch, blockSize, fromBlock, mid, merge);
+            left.fork();
+            boolean changed = new OddEvenBlockSort<>(a, c, scratch, blockSize, mid, toBlock, merge).compute();
+            return left.join() | changed;
+        }
+        if (units == 0) {
+            return false;
+        }
+
+        int lo = fromBlock * blockSize;
+        int mid = Math.min(lo + blockSize, a.length);
+        if (!merge) {
+            Arrays.sort(a, lo, mid, c);
+            return true;
+        }
+        return mergeSplit(lo, mid, Math.min(mid + blockSize, a.length));
+    }
+
+    // Merges the sorted blocks a[lo..mid-1] and a[mid..hi-1]; returns false if they were
+    // already in order and nothing moved
+    private boolean mergeSplit(int lo, int mid, int hi) {
+
+        if (c.compare(a[mid - 1], a[mid]) <= 0) {
+            return false;
+        }
+
+        // Only the left block needs a copy; the merge never overwrites an unread right element
+        System.arraycopy(a, lo, scratch, lo, mid - lo);
+        int i = lo;
+        int j = mid;
+        int k = lo;
+
+        while (i < mid && j < hi) {
+            if (c.compare(a[j], scratch[i]) < 0) {
+                a[k++] = a[j++];
+            } else {
+                a[k++] = scratch[i++];
+            }
+        }
+        System.arraycopy(scratch, i, a, k, mid - i);
+        return true;
+    }
+}
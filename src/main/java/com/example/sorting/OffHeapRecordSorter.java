@@ -0,0 +1,254 @@
+package com.example.sorting;
+
+import java.io.IOException;
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Sorts fixed-width records stored in a MemorySegment, in place.
+ *
+ * The segment is treated as a packed array of records of recordSize bytes, and each record
+ * is ordered by a key at a fixed offset. Records are permuted by copying bytes within the
+ * segment, so sort buffers can live in an Arena or a memory-mapped file and never become
+ * heap objects the garbage collector has to trace.
+ *
+ * Create a sorter with one of the factory methods (byUnsignedBytes, byInt, byLong), then
+ * sort with shellSort or insertionSort. Uses the Foreign Function and Memory API, a preview
+ * API in Java 21, so the JVM must run with --enable-preview.
+ */
+public final class OffHeapRecordSorter {
+
+    private final long recordSize;
+    private final KeyComparator key;
+
+    private OffHeapRecordSorter(long recordSize, KeyComparator key) {
+        this.recordSize = recordSize;
+        this.key = key;
+    }
+
+    /**
+     * Creates a sorter that orders records by keyLength bytes at keyOffset, compared as
+     * unsigned bytes from left to right (the same order as ExternalSorter.sortFixedWidth).
+     *
+     * @param recordSize the size of every record in bytes
+     * @param keyOffset  the offset of the key within a record
+     * @param keyLength  the length of the key in bytes
+     * @return the sorter
+     * @throws IllegalArgumentException if the key does not fit in the record
+     */
+    public static OffHeapRecordSorter byUnsignedBytes(long recordSize, long keyOffset, int keyLength) {
+        checkKey(recordSize, keyOffset, keyLength);
+        return new OffHeapRecordSorter(recordSize, new UnsignedBytesKey(keyOffset, keyLength));
+    }
+
+    /**
+     * Creates a sorter that orders records by a signed 32-bit int at keyOffset.
+     *
+     * @param recordSize the size of every record in bytes
+     * @param keyOffset  the offset of the key within a record
+     * @param order      the byte order the key is stored in
+     * @return the sorter
+     * @throws IllegalArgumentException if the key does not fit in the record
+     */
+    public static OffHeapRecordSorter byInt(long recordSize, long keyOffset, ByteOrder order) {
+        checkKey(recordSize, keyOffset, Integer.BYTES);
+        return new OffHeapRecordSorter(recordSize, new IntKey(keyOffset, order));
+    }
+
+    /**
+     * Creates a sorter that orders records by a signed 64-bit long at keyOffset.
+     *
+     * @param recordSize the size of every record in bytes
+     * @param keyOffset  the offset of the key within a record
+     * @param order      the byte order the key is stored in
+     * @return the sorter
+     * @throws IllegalArgumentException if the key does not fit in the record
+     */
+    public static OffHeapRecordSorter byLong(long recordSize, long keyOffset, ByteOrder order) {
+        checkKey(recordSize, keyOffset, Long.BYTES);
+        return new OffHeapRecordSorter(recordSize, new LongKey(keyOffset, order));
+    }
+
+    /**
+     * @param records a segment of whole records
+     * @return the number of records in the segment
+     * @throws IllegalArgumentException if the segment size is not a multiple of the record size
+     */
+    public long recordCount(MemorySegment records) {
+        long size = records.byteSize();
+        if (size % recordSize != 0) {
+            throw new IllegalArgumentException("segment size " + size
+                    + " is not a multiple of the record size " + recordSize);
+        }
+        return size / recordSize;
+    }
+
+    /**
+     * Sorts the records with Shell Sort and the Ciura gap sequence.
+     *
+     * @param records the records to sort (modified in place)
+     */
+    public void shellSort(MemorySegment records) {
+        shellSort(records, GapSequence.CIURA);
+    }
+
+    /**
+     * Sorts the records with Shell Sort and the given gap sequence.
+     *
+     * @param records  the records to sort (modified in place)
+     * @param sequence the gap sequence to use
+     */
+    public void shellSort(MemorySegment records, GapSequence sequence) {
+
+        long n = recordCount(records);
+        if (n > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("too many records for one sort: " + n);
+        }
+
+        // One record of scratch space on the heap for the element being inserted
+        MemorySegment temp = MemorySegment.ofArray(new byte[(int) recordSize]);
+        int[] gaps = sequence.gaps();
+
+        for (int g = sequence.startIndex((int) n); g >= 0; g--) {
+            long gap = gaps[g];
+
+            for (long i = gap; i < n; i += 1) {
+                long offset = i * recordSize;
+
+                // Nothing to shift if the record is already after its gap predecessor
+                if (key.compare(records, offset - gap * recordSize, records, offset) <= 0) {
+                    continue;
+                }
+
+                MemorySegment.copy(records, offset, temp, 0, recordSize);
+
+                long j;
+                for (j = i; (j >= gap) && (key.compare(records, (j - gap) * recordSize, temp, 0) > 0); j -= gap) {
+                    MemorySegment.copy(records, (j - gap) * recordSize, records, j * recordSize, recordSize);
+                }
+
+                MemorySegment.copy(temp, 0, records, j * recordSize, recordSize);
+            }
+        }
+    }
+
+    /**
+     * Sorts the records with straight insertion sort, which is stable and fast on small or
+     * nearly sorted segments.
+     *
+     * @param records the records to sort (modified in place)
+     */
+    public void insertionSort(MemorySegment records) {
+
+        long n = recordCount(records);
+        MemorySegment temp = MemorySegment.ofArray(new byte[(int) recordSize]);
+
+        for (long i = 1; i < n; i++) {
+            long offset = i * recordSize;
+            if (key.compare(records, offset - recordSize, records, offset) <= 0) {
+                continue;
+            }
+
+            MemorySegment.copy(records, offset, temp, 0, recordSize);
+
+            long j;
+            for (j = i; (j >= 1) && (key.compare(records, (j - 1) * recordSize, temp, 0) > 0); j--) {
+                MemorySegment.copy(records, (j - 1) * recordSize, records, j * recordSize, recordSize);
+            }
+
+            MemorySegment.copy(temp, 0, records, j * recordSize, recordSize);
+        }
+    }
+
+    /**
+     * Memory-maps a file of records and Shell Sorts it in place.
+     *
+     * @param file the file to sort; its size must be a multiple of the record size
+     * @throws IOException if the file cannot be mapped or written
+     */
+    public void sortFile(Path file) throws IOException {
+
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE);
+             Arena arena = Arena.ofConfined()) {
+            MemorySegment records = channel.map(FileChannel.MapMode.READ_WRITE, 0, channel.size(), arena);
+            shellSort(records);
+            records.force();
+        }
+    }
+
+    private static void checkKey(long recordSize, long keyOffset, int keyLength) {
+        if (recordSize <= 0 || recordSize > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("recordSize out of range: " + recordSize);
+        }
+        if (keyOffset < 0 || keyLength <= 0 || keyOffset + keyLength > recordSize) {
+            throw new IllegalArgumentException("key [" + keyOffset + ", " + (keyOffset + keyLength)
+                    + ") does not fit in a record of " + recordSize + " bytes");
+        }
+    }
+
+    // Compares the keys of the records starting at the given offsets
+    private interface KeyComparator {
+        int compare(MemorySegment s1, long record1, MemorySegment s2, long record2);
+    }
+
+    private record UnsignedBytesKey(long keyOffset, int keyLength) implements KeyComparator {
+
+        private static final ValueLayout.OfLong BIG_ENDIAN_LONG =
+                ValueLayout.JAVA_LONG_UNALIGNED.withOrder(ByteOrder.BIG_ENDIAN);
+
+        // Compares eight bytes at a time as big-endian unsigned longs, then the remaining bytes.
+        // (MemorySegment.mismatch is not used: in Java 21 it reports no mismatch when both
+        // ranges lie in the same segment.)
+        @Override
+        public int compare(MemorySegment s1, long record1, MemorySegment s2, long record2) {
+            long from1 = record1 + keyOffset;
+            long from2 = record2 + keyOffset;
+
+            int i = 0;
+            for (; i + Long.BYTES <= keyLength; i += Long.BYTES) {
+                long x = s1.get(BIG_ENDIAN_LONG, from1 + i);
+                long y = s2.get(BIG_ENDIAN_LONG, from2 + i);
+                if (x != y) {
+                    return Long.compareUnsigned(x, y);
+                }
+            }
+            for (; i < keyLength; i++) {
+                int x = Byte.toUnsignedInt(s1.get(ValueLayout.JAVA_BYTE, from1 + i));
+                int y = Byte.toUnsignedInt(s2.get(ValueLayout.JAVA_BYTE, from2 + i));
+                if (x != y) {
+                    return Integer.compare(x, y);
+                }
+            }
+            return 0;
+        }
+    }
+
+    private record IntKey(long keyOffset, ValueLayout.OfInt layout) implements KeyComparator {
+
+        IntKey(long keyOffset, ByteOrder order) {
+            this(keyOffset, ValueLayout.JAVA_INT_UNALIGNED.withOrder(order));
+        }
+
+        @Override
+        public int compare(MemorySegment s1, long record1, MemorySegment s2, long record2) {
+            return Integer.compare(s1.get(layout, record1 + keyOffset), s2.get(layout, record2 + keyOffset));
+        }
+    }
+
+    private record LongKey(long keyOffset, ValueLayout.OfLong layout) implements KeyComparator {
+
+        LongKey(long keyOffset, ByteOrder order) {
+            this(keyOffset, ValueLayout.JAVA_LONG_UNALIGNED.withOrder(order));
+        }
+
+        @Override
+        public int compare(MemorySegment s1, long record1, MemorySegment s2, long record2) {
+            return Long.compare(s1.get(layout, record1 + keyOffset), s2.get(layout, record2 + keyOffset));
+        }
+    }
+}
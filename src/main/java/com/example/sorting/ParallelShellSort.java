@@ -0,0 +1,84 @@
+package com.example.sorting;
+
+import java.util.Comparator;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Fork/Join task for one gapped insertion pass of Shell Sort.
+ *
+ * For a gap h the array splits into h interleaved chains (indices with the same remainder
+ * modulo h) that never exchange elements, so a pass can sort disjoint ranges of chains on
+ * different workers. Each chain is still insertion-sorted front to back, which makes the
+ * result identical to the serial pass.
+ *
+ * Neighbouring chains share cache lines: a row of gap elements holds one element of every
+ * chain. A task therefore always owns at least CHAINS_PER_CACHE_LINE adjacent chains, so two
+ * tasks can only write to the same line at the edge of their ranges. Passes with a gap below
+ * MIN_PARALLEL_GAP are not split at all.
+ */
+final class ParallelShellSort<T> extends RecursiveAction {
+
+    // References in a 64-byte cache line, assuming compressed 4-byte references
+    static final int CHAINS_PER_CACHE_LINE = 16;
+
+    // Passes with a smaller gap run serially
+    static final int MIN_PARALLEL_GAP = 4 * CHAINS_PER_CACHE_LINE;
+
+    private static final long serialVersionUID = 1L;
+
+    // ForkJoinTask is Serializable, but these tasks never leave their pool
+    private final transient T[] a;
+    private final transient Comparator<? super T> c;
+    private final int gap;
+    private final int fromChain;
+    private final int toChain;
+    private final int threshold;
+
+    ParallelShellSort(T[] a, Comparator<? super T> c, int gap, int fromChain, int toChain, int threshold) {
+        this.a = a;
+        this.c = c;
+        this.gap = gap;
+        this.fromChain = fromChain;
+        this.toChain = toChain;
+        this.threshold = threshold;
+    }
+
+    @Override
+    protected void compute() {
+
+        // Roughly n / gap elements belong to every chain
+        long elements = (long) (toChain - fromChain) * (a.length / gap);
+
+        if (toChain - fromChain >= 2 * CHAINS_PER_CACHE_LINE && elements > threshold) {
+            int mid = (fromChain + toChain) >>> 1;
+            invokeAll(new ParallelShellSort<>(a, c, gap, fromChain, mid, threshold),
+                    new ParallelShellSort<>(a, c, gap, mid, toChain, threshold));
+        } else {
+            sortChains(a, c, gap, fromChain, toChain);
+        }
+    }
+
+    /*
+     * Gapped insertion sort restricted to the chains fromChain..toChain-1. The array is walked
+     * row by row (a row is gap consecutive elements), which keeps memory access sequential
+     * instead of striding along one chain at a time.
+     */
+    static <T> void sortChains(T[] a, Comparator<? super T> c, int gap, int fromChain, int toChain) {
+
+        int n = a.length;
+
+        for (int row = gap; row < n; row += gap) {
+            int end = Math.min(row + toChain, n);
+            for (int i = row + fromChain; i < end; i++) {
+                T temp = a[i];
+
+                int j;
+                for (j = i; (j >= gap) && (c.compare(a[j - gap], temp) > 0); j -= gap) {
+                    a[j] = a[j - gap];
+                }
+
+                a[j] = temp;
+            }
+        }
+    }
+}
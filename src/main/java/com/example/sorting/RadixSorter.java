@@ -0,0 +1,353 @@
+package com.example.sorting;
+
+import java.util.Arrays;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
+
+/**
+ * Non-comparison sorts for integer keys: counting sort and LSD radix sort.
+ *
+ * Every call first scans the keys for their minimum and maximum and sorts key - min, so only
+ * the bits that actually vary are looked at. If the key range is at most 4n, a single
+ * counting sort pass places every element. Otherwise an LSD radix sort runs one stable
+ * counting pass per digit, lowest digit first. The histograms for all digits are built in a
+ * single scan, and digits that have the same value in every key are skipped.
+ *
+ * Objects are sorted by an int or long key that is extracted exactly once per element, and
+ * the elements move together with their keys. All sorts are stable.
+ *
+ * The sorter keeps its scratch buffers between calls, so sorting many arrays with one
+ * instance allocates only when an array is larger than any before. Instances are not
+ * thread-safe; use one per thread.
+ */
+public final class RadixSorter {
+
+    // Default number of bits sorted per radix pass
+    public static final int DEFAULT_DIGIT_BITS = 11;
+
+    // Counting sort is used when the key range is at most this many times the input length
+    private static final int COUNTING_RANGE_FACTOR = 4;
+
+    // Largest histogram a counting sort may allocate: the practical limit on Java array length
+    private static final int MAX_COUNTING_RANGE = Integer.MAX_VALUE - 8;
+
+    private final int digitBits;
+
+    private int[] counts = new int[0];
+    private int[] intKeys = new int[0];
+    private int[] intBuffer = new int[0];
+    private long[] longKeys = new long[0];
+    private long[] longBuffer = new long[0];
+    private Object[] itemBuffer = new Object[0];
+
+    /**
+     * Creates a sorter that sorts DEFAULT_DIGIT_BITS bits per pass.
+     */
+    public RadixSorter() {
+        this(DEFAULT_DIGIT_BITS);
+    }
+
+    /**
+     * Creates a sorter with the given digit width. Wider digits need fewer passes but a larger
+     * histogram: 8 bits fits any cache, 16 bits halves the passes of 8 for large inputs.
+     *
+     * @param digitBits bits per radix pass: 8, 11 or 16
+     * @throws IllegalArgumentException for any other width
+     */
+    public RadixSorter(int digitBits) {
+        if (digitBits != 8 && digitBits != 11 && digitBits != 16) {
+            throw new IllegalArgumentException("digitBits must be 8, 11 or 16: " + digitBits);
+        }
+        this.digitBits = digitBits;
+    }
+
+    /**
+     * @return the number of bits sorted per radix pass
+     */
+    public int digitBits() {
+        return digitBits;
+    }
+
+    /**
+     * Sorts an int array in ascending numerical order.
+     *
+     * @param a the array to sort (modified in place)
+     */
+    public void sort(int[] a) {
+        sortIntKeys(a, null, a.length);
+    }
+
+    /**
+     * Sorts a long array in ascending numerical order.
+     *
+     * @param a the array to sort (modified in place)
+     */
+    public void sort(long[] a) {
+        sortLongKeys(a, null, a.length);
+    }
+
+    /**
+     * Sorts an array of objects by an int key, calling the key extractor once per element.
+     * Elements with equal keys keep their relative order.
+     *
+     * @param a   the array to sort (modified in place)
+     * @param key extracts the sort key of an element
+     */
+    public <T> void sortByIntKey(T[] a, ToIntFunction<? super T> key) {
+        int n = a.length;
+        int[] keys = intKeys = grow(intKeys, n);
+        for (int i = 0; i < n; i++) {
+            keys[i] = key.applyAsInt(a[i]);
+        }
+
+        try {
+            sortIntKeys(keys, a, n);
+        } finally {
+            Arrays.fill(itemBuffer, 0, Math.min(n, itemBuffer.length), null);
+        }
+    }
+
+    /**
+     * Sorts an array of objects by a long key, calling the key extractor once per element.
+     * Elements with equal keys keep their relative order.
+     *
+     * @param a   the array to sort (modified in place)
+     * @param key extracts the sort key of an element
+     */
+    public <T> void sortByLongKey(T[] a, ToLongFunction<? super T> key) {
+        int n = a.length;
+        long[] keys = longKeys = grow(longKeys, n);
+        for (int i = 0; i < n; i++) {
+            keys[i] = key.applyAsLong(a[i]);
+        }
+
+        try {
+            sortLongKeys(keys, a, n);
+        } finally {
+            Arrays.fill(itemBuffer, 0, Math.min(n, itemBuffer.length), null);
+        }
+    }
+
+    // Sorts keys[0..n-1]; if items is not null, items[i] moves together with keys[i]
+    private void sortIntKeys(int[] keys, Object[] items, int n) {
+        if (n < 2) {
+            return;
+        }
+
+        int min = keys[0];
+        int max = keys[0];
+        for (int i = 1; i < n; i++) {
+            min = Math.min(min, keys[i]);
+            max = Math.max(max, keys[i]);
+        }
+
+        // max - min is the unsigned width of the key range, and key - min its unsigned offset
+        int span = max - min;
+        if (useCountingSort(Integer.toUnsignedLong(span), n)) {
+            countingSort(keys, items, n, min, span + 1);
+            return;
+        }
+
+        int radix = 1 << digitBits;
+        int mask = radix - 1;
+        int digits = (32 - Integer.numberOfLeadingZeros(span) + digitBits - 1) / digitBits;
+
+        // Histograms for every digit in a single scan
+        int[] count = counts = grow(counts, digits * radix);
+        Arrays.fill(count, 0, digits * radix, 0);
+        for (int i = 0; i < n; i++) {
+            int k = keys[i] - min;
+            for (int d = 0; d < digits; d++) {
+                count[d * radix + ((k >>> (d * digitBits)) & mask)]++;
+            }
+        }
+
+        int[] src = keys;
+        int[] dst = intBuffer = grow(intBuffer, n);
+        Object[] itemSrc = items;
+        Object[] itemDst = items == null ? null : (itemBuffer = grow(itemBuffer, n));
+
+        for (int d = 0; d < digits; d++) {
+            int base = d * radix;
+            int shift = d * digitBits;
+
+            // A digit that is the same in every key would copy the array without changing it
+            if (count[base + (((src[0] - min) >>> shift) & mask)] == n) {
+                continue;
+            }
+
+            toOffsets(count, base, radix);
+            for (int i = 0; i < n; i++) {
+                int pos = count[base + (((src[i] - min) >>> shift) & mask)]++;
+                dst[pos] = src[i];
+                if (items != null) {
+                    itemDst[pos] = itemSrc[i];
+                }
+            }
+
+            int[] t = src;
+            src = dst;
+            dst = t;
+            Object[] u = itemSrc;
+            itemSrc = itemDst;
+            itemDst = u;
+        }
+
+        // After an odd number of passes the result is in the scratch buffers
+        if (src != keys) {
+            System.arraycopy(src, 0, keys, 0, n);
+            if (items != null) {
+                System.arraycopy(itemSrc, 0, items, 0, n);
+            }
+        }
+    }
+
+    // Sorts keys[0..n-1]; if items is not null, items[i] moves together with keys[i]
+    private void sortLongKeys(long[] keys, Object[] items, int n) {
+        if (n < 2) {
+            return;
+        }
+
+        long min = keys[0];
+        long max = keys[0];
+        for (int i = 1; i < n; i++) {
+            min = Math.min(min, keys[i]);
+            max = Math.max(max, keys[i]);
+        }
+
+        long span = max - min;
+        if (useCountingSort(span, n)) {
+            countingSort(keys, items, n, min, (int) span + 1);
+            return;
+        }
+
+        int radix = 1 << digitBits;
+        int mask = radix - 1;
+        int digits = (64 - Long.numberOfLeadingZeros(span) + digitBits - 1) / digitBits;
+
+        int[] count = counts = grow(counts, digits * radix);
+        Arrays.fill(count, 0, digits * radix, 0);
+        for (int i = 0; i < n; i++) {
+            long k = keys[i] - min;
+            for (int d = 0; d < digits; d++) {
+                count[d * radix + (int) ((k >>> (d * digitBits)) & mask)]++;
+            }
+        }
+
+        long[] src = keys;
+        long[] dst = longBuffer = grow(longBuffer, n);
+        Object[] itemSrc = items;
+        Object[] itemDst = items == null ? null : (itemBuffer = grow(itemBuffer, n));
+
+        for (int d = 0; d < digits; d++) {
+            int base = d * radix;
+            int shift = d * digitBits;
+
+            if (count[base + (int) (((src[0] - min) >>> shift) & mask)] == n) {
+                continue;
+            }
+
+            toOffsets(count, base, radix);
+            for (int i = 0; i < n; i++) {
+                int pos = count[base + (int) (((src[i] - min) >>> shift) & mask)]++;
+                dst[pos] = src[i];
+                if (items != null) {
+                    itemDst[pos] = itemSrc[i];
+                }
+            }
+
+            long[] t = src;
+            src = dst;
+            dst = t;
+            Object[] u = itemSrc;
+            itemSrc = itemDst;
+            itemDst = u;
+        }
+
+        if (src != keys) {
+            System.arraycopy(src, 0, keys, 0, n);
+            if (items != null) {
+                System.arraycopy(itemSrc, 0, items, 0, n);
+            }
+        }
+    }
+
+    private void countingSort(int[] keys, Object[] items, int n, int min, int range) {
+        int[] count = counts = grow(counts, range);
+        Arrays.fill(count, 0, range, 0);
+        for (int i = 0; i < n; i++) {
+            count[keys[i] - min]++;
+        }
+
+        // Plain values can be rewritten straight from the histogram
+        if (items == null) {
+            int pos = 0;
+            for (int r = 0; r < range; r++) {
+                Arrays.fill(keys, pos, pos + count[r], min + r);
+                pos += count[r];
+            }
+            return;
+        }
+
+        toOffsets(count, 0, range);
+        Object[] sorted = itemBuffer = grow(itemBuffer, n);
+        for (int i = 0; i < n; i++) {
+            sorted[count[keys[i] - min]++] = items[i];
+        }
+        System.arraycopy(sorted, 0, items, 0, n);
+    }
+
+    private void countingSort(long[] keys, Object[] items, int n, long min, int range) {
+        int[] count = counts = grow(counts, range);
+        Arrays.fill(count, 0, range, 0);
+        for (int i = 0; i < n; i++) {
+            count[(int) (keys[i] - min)]++;
+        }
+
+        if (items == null) {
+            int pos = 0;
+            for (int r = 0; r < range; r++) {
+                Arrays.fill(keys, pos, pos + count[r], min + r);
+                pos += count[r];
+            }
+            return;
+        }
+
+        toOffsets(count, 0, range);
+        Object[] sorted = itemBuffer = grow(itemBuffer, n);
+        for (int i = 0; i < n; i++) {
+            sorted[count[(int) (keys[i] - min)]++] = items[i];
+        }
+        System.arraycopy(sorted, 0, items, 0, n);
+    }
+
+    // True if a counting sort over span + 1 buckets (span unsigned) is cheaper than radix passes
+    // and its histogram fits in an array. For n > 2^29 the first test alone would accept spans
+    // whose bucket count overflows an int.
+    static boolean useCountingSort(long span, int n) {
+        long limit = Math.min((long) COUNTING_RANGE_FACTOR * n, MAX_COUNTING_RANGE);
+        return Long.compareUnsigned(span, limit) < 0;
+    }
+
+    // Turns the histogram count[base..base+length-1] into the start offset of every bucket
+    private static void toOffsets(int[] count, int base, int length) {
+        int sum = 0;
+        for (int r = base; r < base + length; r++) {
+            int c = count[r];
+            count[r] = sum;
+            sum += c;
+        }
+    }
+
+    private static int[] grow(int[] buffer, int length) {
+        return buffer.length >= length ? buffer : new int[length];
+    }
+
+    private static long[] grow(long[] buffer, int length) {
+        return buffer.length >= length ? buffer : new long[length];
+    }
+
+    private static Object[] grow(Object[] buffer, int length) {
+        return buffer.length >= length ? buffer : new Object[length];
+    }
+}
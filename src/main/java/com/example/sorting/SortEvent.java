@@ -0,0 +1,33 @@
+package com.example.sorting;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * JFR event emitted by InstrumentedSorting for sorts at or above its size threshold.
+ * The event duration covers the whole sort call.
+ */
+@Name("com.example.sorting.Sort")
+@Label("Sort")
+@Category({"Application", "Sorting"})
+@Description("An instrumented SortingUtility sort call")
+final class SortEvent extends Event {
+
+    @Label("Algorithm")
+    String algorithm;
+
+    @Label("Length")
+    int length;
+
+    @Label("Comparisons")
+    long comparisons;
+
+    @Label("Moves")
+    long moves;
+
+    @Label("Passes")
+    long passes;
+}
@@ -0,0 +1,18 @@
+package com.example.sorting;
+
+/**
+ * Receives a callback after each instrumented sort completes.
+ */
+@FunctionalInterface
+public interface SortListener {
+
+    /**
+     * Called once per instrumented sort call, on the thread that sorted.
+     *
+     * @param algorithm the name of the algorithm that ran
+     * @param length    the number of elements sorted
+     * @param metrics   the metrics the call was recorded in (counts include earlier calls
+     *                  unless the metrics were reset)
+     */
+    void sortCompleted(String algorithm, int length, SortMetrics metrics);
+}
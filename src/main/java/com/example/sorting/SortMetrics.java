@@ -0,0 +1,98 @@
+package com.example.sorting;
+
+/**
+ * Counters filled in by the instrumented sorts in InstrumentedSorting.
+ *
+ * Counts accumulate over every call that is given the same instance until reset() is called.
+ * An optional SortListener is told about each completed call. Instances are not thread-safe;
+ * use one per thread.
+ */
+public final class SortMetrics {
+
+    private final SortListener listener;
+
+    long comparisons;
+    long moves;
+    long passes;
+    long elapsedNanos;
+    long calls;
+
+    /**
+     * Creates metrics without a listener.
+     */
+    public SortMetrics() {
+        this(null);
+    }
+
+    /**
+     * Creates metrics that report every completed sort to the given listener.
+     *
+     * @param listener the listener to notify, or null for none
+     */
+    public SortMetrics(SortListener listener) {
+        this.listener = listener;
+    }
+
+    /**
+     * @return the number of element comparisons
+     */
+    public long getComparisons() {
+        return comparisons;
+    }
+
+    /**
+     * @return the number of array element writes (a swap counts as two)
+     */
+    public long getMoves() {
+        return moves;
+    }
+
+    /**
+     * @return the number of sweeps (cocktail shaker, one per direction) or gap passes (Shell Sort);
+     *         always 0 for gnome sort
+     */
+    public long getPasses() {
+        return passes;
+    }
+
+    /**
+     * @return the wall-clock time spent inside instrumented sorts, in nanoseconds
+     */
+    public long getElapsedNanos() {
+        return elapsedNanos;
+    }
+
+    /**
+     * @return the number of instrumented sort calls recorded
+     */
+    public long getCalls() {
+        return calls;
+    }
+
+    /**
+     * Sets every counter back to zero.
+     */
+    public void reset() {
+        comparisons = 0;
+        moves = 0;
+        passes = 0;
+        elapsedNanos = 0;
+        calls = 0;
+    }
+
+    void completed(String algorithm, int length) {
+        calls++;
+        if (listener != null) {
+            listener.sortCompleted(algorithm, length, this);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "SortMetrics{comparisons=" + comparisons
+                + ", moves=" + moves
+                + ", passes=" + passes
+                + ", elapsedNanos=" + elapsedNanos
+                + ", calls=" + calls + "}";
+    }
+}
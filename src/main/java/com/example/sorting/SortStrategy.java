@@ -0,0 +1,26 @@
+package com.example.sorting;
+
+/**
+ * The algorithm SortingUtility.sort picked for an input after its pre-scan.
+ * Returned by every adaptive sort call so callers can log or count the decisions.
+ */
+public enum SortStrategy {
+
+    /** The input was already in order; nothing was moved. */
+    ALREADY_SORTED,
+
+    /** The input was strictly descending and was reversed in place. */
+    REVERSED,
+
+    /** The input was tiny or nearly sorted and was finished by insertion (gnome) sort. */
+    INSERTION,
+
+    /** A mid-sized input sorted with Shell Sort. */
+    SHELL,
+
+    /** A large unordered input sorted with an O(n log n) merge sort. */
+    MERGE,
+
+    /** An input with few distinct keys, grouped by key in one stable pass. */
+    DISTINCT_KEYS
+}
@@ -0,0 +1,298 @@
+package com.example.sorting;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.function.IntFunction;
+
+/**
+ * An array that is kept sorted while individual entries change.
+ *
+ * set and append write straight into the array and only remember which indices may now be
+ * out of order. A value that still fits between its clean neighbours is not marked at all.
+ * The next read (get, binarySearch, iteration) repairs the order first. The repair does not
+ * re-sort the array:
+ * <ol>
+ *   <li>It takes the k dirty values out and closes the gaps. The remaining values are
+ *       still in order.</li>
+ *   <li>It sorts the k values with binaryGnomeSort.</li>
+ *   <li>It merges them back from the end. Each value finds its slot by binary search, and
+ *       the clean values after it shift with one System.arraycopy.</li>
+ * </ol>
+ * That is O(k log n) comparisons plus the element moves, instead of O(n log n) for a full sort.
+ * When more than maxDirtyRatio of the entries are dirty, a full sort is cheaper and is used
+ * instead.
+ *
+ * Equal values keep their relative order, and a repaired value goes after the clean values
+ * it equals. Instances are not thread-safe.
+ *
+ * @param <T> the type of the elements
+ */
+public final class SortedArray<T> implements Iterable<T> {
+
+    // Default fraction of dirty entries above which a repair re-sorts the whole array
+    public static final double DEFAULT_MAX_DIRTY_RATIO = 0.1;
+
+    private static final int DEFAULT_CAPACITY = 16;
+
+    private final Comparator<? super T> c;
+    private final double maxDirtyRatio;
+
+    private T[] elements;
+    private int size;
+
+    // Indices written since the last repair that may be out of order
+    private final BitSet dirty = new BitSet();
+    private int dirtyCount;
+
+    private int modCount;
+
+    /**
+     * Creates an empty array with the default dirty ratio.
+     *
+     * @param c the comparator that determines the order of the elements
+     */
+    public SortedArray(Comparator<? super T> c) {
+        this(c, DEFAULT_MAX_DIRTY_RATIO);
+    }
+
+    /**
+     * Creates an empty array.
+     *
+     * @param c             the comparator that determines the order of the elements
+     * @param maxDirtyRatio the fraction of dirty entries, between 0 and 1, above which a repair
+     *                      re-sorts the whole array instead
+     * @throws IllegalArgumentException if maxDirtyRatio is not between 0 and 1
+     */
+    @SuppressWarnings("unchecked")
+    public SortedArray(Comparator<? super T> c, double maxDirtyRatio) {
+        if (!(maxDirtyRatio >= 0.0 && maxDirtyRatio <= 1.0)) {
+            throw new IllegalArgumentException("maxDirtyRatio must be between 0 and 1: " + maxDirtyRatio);
+        }
+        this.c = Objects.requireNonNull(c);
+        this.maxDirtyRatio = maxDirtyRatio;
+        this.elements = (T[]) new Object[DEFAULT_CAPACITY];
+    }
+
+    /**
+     * Creates a sorted array holding a sorted copy of the given values.
+     *
+     * @param values the initial values (not modified)
+     * @param c      the comparator that determines the order of the elements
+     * @return the new sorted array
+     */
+    public static <T> SortedArray<T> of(T[] values, Comparator<? super T> c) {
+        SortedArray<T> result = new SortedArray<>(c);
+        result.elements = Arrays.copyOf(values, Math.max(values.length, DEFAULT_CAPACITY));
+        result.size = values.length;
+        Arrays.sort(result.elements, 0, result.size, c);
+        return result;
+    }
+
+    /**
+     * @return the number of elements
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * @return the number of entries that will be repaired before the next read
+     */
+    public int dirtyCount() {
+        return dirtyCount;
+    }
+
+    /**
+     * Returns the element at the given position in sorted order, repairing the order first
+     * if entries have changed.
+     *
+     * @param index the position
+     * @return the element
+     * @throws IndexOutOfBoundsException if index is out of range
+     */
+    public T get(int index) {
+        Objects.checkIndex(index, size);
+        repair();
+        return elements[index];
+    }
+
+    /**
+     * Replaces the element at the given position. The new value stays at that position until
+     * the next read repairs the order.
+     *
+     * @param index the position, in the order of the last read
+     * @param value the new value
+     * @return the old value
+     * @throws IndexOutOfBoundsException if index is out of range
+     */
+    public T set(int index, T value) {
+        Objects.checkIndex(index, size);
+        T old = elements[index];
+        elements[index] = value;
+        modCount++;
+
+        if (!fitsBetweenNeighbours(index)) {
+            markDirty(index);
+        }
+        return old;
+    }
+
+    /**
+     * Adds a value. It goes to the end and moves into place at the next read.
+     *
+     * @param value the value to add
+     */
+    public void append(T value) {
+        if (size == elements.length) {
+            elements = Arrays.copyOf(elements, size + (size >> 1) + 1);
+        }
+        elements[size++] = value;
+        modCount++;
+
+        if (!fitsBetweenNeighbours(size - 1)) {
+            markDirty(size - 1);
+        }
+    }
+
+    /**
+     * Searches for a value with binary search, after repairing the order.
+     *
+     * @param key the value to search for
+     * @return the index of a matching element, or -(insertion point) - 1 as in
+     * Arrays.binarySearch
+     */
+    public int binarySearch(T key) {
+        repair();
+        return Arrays.binarySearch(elements, 0, size, key, c);
+    }
+
+    /**
+     * Returns the elements in sorted order, repairing the order first.
+     *
+     * @param generator creates an array of the requested length
+     * @return a new array holding the elements
+     */
+    public T[] toArray(IntFunction<T[]> generator) {
+        repair();
+        T[] result = generator.apply(size);
+        System.arraycopy(elements, 0, result, 0, size);
+        return result;
+    }
+
+    /**
+     * Returns an iterator over the elements in sorted order, repairing the order first.
+     * Changing the array while iterating makes the iterator throw
+     * ConcurrentModificationException.
+     *
+     * @return the iterator
+     */
+    @Override
+    public Iterator<T> iterator() {
+        repair();
+        int expectedModCount = modCount;
+
+        return new Iterator<>() {
+            private int next;
+
+            @Override
+            public boolean hasNext() {
+                return next < size;
+            }
+
+            @Override
+            public T next() {
+                if (modCount != expectedModCount) {
+                    throw new ConcurrentModificationException();
+                }
+                if (next >= size) {
+                    throw new NoSuchElementException();
+                }
+                return elements[next++];
+            }
+        };
+    }
+
+    /**
+     * Restores the sorted order now instead of at the next read. Does nothing if no entry is
+     * dirty.
+     */
+    public void repair() {
+        if (dirtyCount == 0) {
+            return;
+        }
+
+        if (dirtyCount > maxDirtyRatio * size) {
+            Arrays.sort(elements, 0, size, c);
+        } else {
+            reinsertDirty();
+        }
+
+        dirty.clear();
+        dirtyCount = 0;
+    }
+
+    private void markDirty(int index) {
+        if (!dirty.get(index)) {
+            dirty.set(index);
+            dirtyCount++;
+        }
+    }
+
+    // True if the value at index is in order with both neighbours and they are clean
+    private boolean fitsBetweenNeighbours(int index) {
+        if (index > 0 && (dirty.get(index - 1) || c.compare(elements[index - 1], elements[index]) > 0)) {
+            return false;
+        }
+        return index + 1 >= size
+                || (!dirty.get(index + 1) && c.compare(elements[index], elements[index + 1]) <= 0);
+    }
+
+    private void reinsertDirty() {
+        int k = dirtyCount;
+        T[] moved = Arrays.copyOf(elements, k);
+
+        // Take the dirty values out, closing each gap with one arraycopy of the clean run after it
+        int write = dirty.nextSetBit(0);
+        int taken = 0;
+        for (int i = write; i >= 0; ) {
+            moved[taken++] = elements[i];
+            int nextDirty = dirty.nextSetBit(i + 1);
+            int runEnd = nextDirty < 0 ? size : nextDirty;
+            System.arraycopy(elements, i + 1, elements, write, runEnd - i - 1);
+            write += runEnd - i - 1;
+            i = nextDirty;
+        }
+
+        SortingUtility.binaryGnomeSort(moved, c);
+
+        // Merge from the end: each value goes after the clean values it is not smaller than
+        int clean = size - k;
+        for (int m = k - 1; m >= 0; m--) {
+            T value = moved[m];
+            int slot = upperBound(value, clean);
+            System.arraycopy(elements, slot, elements, slot + m + 1, clean - slot);
+            elements[slot + m] = value;
+            clean = slot;
+        }
+    }
+
+    // The first index in elements[0..to-1] whose value is greater than value
+    private int upperBound(T value, int to) {
+        int lo = 0;
+        int hi = to;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (c.compare(elements[mid], value) <= 0) {
+                lo = mid + 1;
+            } else {
+                hi = mid;
+            }
+        }
+        return lo;
+    }
+}
@@ -0,0 +1,154 @@
+package com.example.sorting;
+
+/**
+ * Branch-free sorting of small primitive blocks with SIMD sorting networks.
+ *
+ * On random data, insertion-style loops over a few dozen elements mispredict a branch on
+ * nearly every element. A bitonic sorting network instead runs a fixed sequence of lane-wise
+ * min/max stages that does not depend on the data, and the Vector API maps each stage to a
+ * handful of SIMD instructions on x86 (SSE/AVX) and ARM (NEON/SVE).
+ *
+ * The Vector API is the incubator module jdk.incubator.vector in Java 21, so the vector
+ * kernels only run when the JVM is started with --add-modules jdk.incubator.vector. Without
+ * the module, or with -Dcom.example.sorting.vectorKernel=false, every method falls back to a
+ * scalar insertion sort with the same result. SortingUtility uses these kernels as the base
+ * case of the int[] and long[] sorts for arrays of at most MAX_BLOCK elements.
+ */
+public final class SortingNetworks {
+
+    // Largest block the kernels accept
+    public static final int MAX_BLOCK = 64;
+
+    private static final boolean VECTORIZED =
+            Boolean.parseBoolean(System.getProperty("com.example.sorting.vectorKernel", "true"))
+                    && ModuleLayer.boot().findModule("jdk.incubator.vector").isPresent();
+
+    private SortingNetworks() {
+    }
+
+    /**
+     * @return true if the Vector API kernels are in use, false if the scalar fallback is
+     */
+    public static boolean isVectorized() {
+        return VECTORIZED;
+    }
+
+    /**
+     * Sorts the range a[fromIndex..toIndex-1] of at most MAX_BLOCK ints in ascending order.
+     *
+     * @param a         the array to sort (modified in place)
+     * @param fromIndex the index of the first element, inclusive, to be sorted
+     * @param toIndex   the index of the last element, exclusive, to be sorted
+     * @throws IllegalArgumentException       if fromIndex > toIndex or the range is longer than MAX_BLOCK
+     * @throws ArrayIndexOutOfBoundsException if fromIndex < 0 or toIndex > a.length
+     */
+    public static void sort(int[] a, int fromIndex, int toIndex) {
+        checkBlock(a.length, fromIndex, toIndex);
+        if (toIndex - fromIndex < 2) {
+            return;
+        }
+
+        if (VECTORIZED) {
+            VectorKernels.sort(a, fromIndex, toIndex);
+        } else {
+            scalarSort(a, fromIndex, toIndex);
+        }
+    }
+
+    /**
+     * Sorts the range a[fromIndex..toIndex-1] of at most MAX_BLOCK longs in ascending order.
+     *
+     * @param a         the array to sort (modified in place)
+     * @param fromIndex the index of the first element, inclusive, to be sorted
+     * @param toIndex   the index of the last element, exclusive, to be sorted
+     * @throws IllegalArgumentException       if fromIndex > toIndex or the range is longer than MAX_BLOCK
+     * @throws ArrayIndexOutOfBoundsException if fromIndex < 0 or toIndex > a.length
+     */
+    public static void sort(long[] a, int fromIndex, int toIndex) {
+        checkBlock(a.length, fromIndex, toIndex);
+        if (toIndex - fromIndex < 2) {
+            return;
+        }
+
+        if (VECTORIZED) {
+            VectorKernels.sort(a, fromIndex, toIndex);
+        } else {
+            scalarSort(a, fromIndex, toIndex);
+        }
+    }
+
+    /**
+     * Sorts the range a[fromIndex..toIndex-1] of at most MAX_BLOCK floats in the order of
+     * Float.compare: -0.0 before 0.0 and NaN after positive infinity. A range that contains
+     * NaN takes the scalar path, because lane-wise min and max would spread the NaN.
+     *
+     * @param a         the array to sort (modified in place)
+     * @param fromIndex the index of the first element, inclusive, to be sorted
+     * @param toIndex   the index of the last element, exclusive, to be sorted
+     * @throws IllegalArgumentException       if fromIndex > toIndex or the range is longer than MAX_BLOCK
+     * @throws ArrayIndexOutOfBoundsException if fromIndex < 0 or toIndex > a.length
+     */
+    public static void sort(float[] a, int fromIndex, int toIndex) {
+        checkBlock(a.length, fromIndex, toIndex);
+        if (toIndex - fromIndex < 2) {
+            return;
+        }
+
+        if (VECTORIZED && !containsNaN(a, fromIndex, toIndex)) {
+            VectorKernels.sort(a, fromIndex, toIndex);
+        } else {
+            scalarSort(a, fromIndex, toIndex);
+        }
+    }
+
+    // Straight insertion sort, used when the Vector API is unavailable
+    static void scalarSort(int[] a, int fromIndex, int toIndex) {
+        for (int i = fromIndex + 1; i < toIndex; i++) {
+            int temp = a[i];
+            int j;
+            for (j = i; j > fromIndex && a[j - 1] > temp; j--) {
+                a[j] = a[j - 1];
+            }
+            a[j] = temp;
+        }
+    }
+
+    static void scalarSort(long[] a, int fromIndex, int toIndex) {
+        for (int i = fromIndex + 1; i < toIndex; i++) {
+            long temp = a[i];
+            int j;
+            for (j = i; j > fromIndex && a[j - 1] > temp; j--) {
+                a[j] = a[j - 1];
+            }
+            a[j] = temp;
+        }
+    }
+
+    static void scalarSort(float[] a, int fromIndex, int toIndex) {
+        for (int i = fromIndex + 1; i < toIndex; i++) {
+            float temp = a[i];
+            int j;
+            for (j = i; j > fromIndex && Float.compare(a[j - 1], temp) > 0; j--) {
+                a[j] = a[j - 1];
+            }
+            a[j] = temp;
+        }
+    }
+
+    private static boolean containsNaN(float[] a, int fromIndex, int toIndex) {
+        for (int i = fromIndex; i < toIndex; i++) {
+            if (a[i] != a[i]) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static void checkBlock(int arrayLength, int fromIndex, int toIndex) {
+        SortingUtility.rangeCheck(arrayLength, fromIndex, toIndex);
+        if (toIndex - fromIndex > MAX_BLOCK) {
+            throw new IllegalArgumentException("block of " + (toIndex - fromIndex)
+                    + " elements is longer than " + MAX_BLOCK);
+        }
+    }
+}
@@ -1,7 +1,16 @@
 package com.example.sorting;
 
-import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.ListIterator;
+import java.util.Objects;
+import java.util.RandomAccess;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Function;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
 
 public class SortingUtility {
 
@@ -12,16 +21,30 @@ public class SortingUtility {
      */
     public static <T extends Comparable<T>> void gnomeSort(T[] a) {
 
-        // TODO implement Gnome Sort here
+        gnomeSort(a, 0, a.length);
+    }
 
-        // Start at the beginning of the array
-        int pos = 0;
+    /*
+     * Sorts the range a[fromIndex..toIndex-1] using the Gnome Sort algorithm
+     *
+     * @param a         the array of Comparable objects to sort (modified in place)
+     * @param fromIndex the index of the first element, inclusive, to be sorted
+     * @param toIndex   the index of the last element, exclusive, to be sorted
+     * @throws IllegalArgumentException       if fromIndex > toIndex
+     * @throws ArrayIndexOutOfBoundsException if fromIndex < 0 or toIndex > a.length
+     */
+    public static <T extends Comparable<T>> void gnomeSort(T[] a, int fromIndex, int toIndex) {
 
-        // Continue until we've processed the entire array
-        while (pos < a.length) {
+        rangeCheck(a.length, fromIndex, toIndex);
+
+        // Start at the beginning of the range
+        int pos = fromIndex;
+
+        // Continue until we've processed the entire range
+        while (pos < toIndex) {
             // If we're at the start OR current element is in correct position
             // (greater than or equal to the previous element)
-            if (pos == 0 || a[pos].compareTo(a[pos - 1]) >= 0) {
+            if (pos == fromIndex || a[pos].compareTo(a[pos - 1]) >= 0) {
                 // Move forward to the next position
                 pos = pos + 1;
             } else {
@@ -42,22 +65,48 @@ public class SortingUtility {
      */
     public static <T extends Comparable<T>> void cocktailShakerSort(T[] a) {
 
-        // TODO implement Cocktail Shaker Sort here
+        cocktailShakerSort(a, 0, a.length);
+    }
+
+    /*
+     * Sorts the range a[fromIndex..toIndex-1] using the Cocktail Shaker Sort algorithm.
+     * Each pass remembers where it last swapped: everything beyond that point is already
+     * final, so the active window shrinks from both ends instead of by one per pass.
+     *
+     * @param a         the array of Comparable objects to sort (modified in place)
+     * @param fromIndex the index of the first element, inclusive, to be sorted
+     * @param toIndex   the index of the last element, exclusive, to be sorted
+     * @throws IllegalArgumentException       if fromIndex > toIndex
+     * @throws ArrayIndexOutOfBoundsException if fromIndex < 0 or toIndex > a.length
+     */
+    public static <T extends Comparable<T>> void cocktailShakerSort(T[] a, int fromIndex, int toIndex) {
+
+        rangeCheck(a.length, fromIndex, toIndex);
+
         boolean swapped;
 
+        // Active window: pairs (i, i + 1) with begin <= i < end still need comparing
+        int begin = fromIndex;
+        int end = toIndex - 1;
+
         // Continue until no swaps are made in a complete pass
         do {
             // Reset swap flag for forward pass
             swapped = false;
+            int lastSwap = begin;
 
             // Forward pass: bubble the largest element toward the end
-            for (int i = 0; i < a.length - 1; i++) {
+            for (int i = begin; i < end; i++) {
                 if (a[i].compareTo(a[i + 1]) > 0) {
                     swap(a, i, i + 1);
                     swapped = true;
+                    lastSwap = i;
                 }
             }
 
+            // Everything after the last swap is in its final position
+            end = lastSwap;
+
             // If no swaps occurred, array is sorted
             if (!swapped) {
                 break;
@@ -65,14 +114,19 @@ public class SortingUtility {
 
             // Reset swap flag for backward pass
             swapped = false;
+            lastSwap = end;
 
             // Backward pass: bubble the smallest element toward the beginning
-            for (int i = a.length - 2; i >= 0; i--) {
+            for (int i = end - 1; i >= begin; i--) {
                 if (a[i].compareTo(a[i + 1]) > 0) {
                     swap(a, i, i + 1);
                     swapped = true;
+                    lastSwap = i;
                 }
             }
+
+            // Everything up to and including the last swap is in its final position
+            begin = lastSwap + 1;
         } while (swapped);
     }
 
@@ -83,24 +137,67 @@ public class SortingUtility {
      */
     public static <T extends Comparable<T>> void shellSort(T[] a) {
 
-        // TODO implement Shell Sort here
+        shellSort(a, 0, a.length, GapSequence.CIURA);
+    }
 
-        // Ciura gap sequence for optimal performance
-        ArrayList<Integer> gaps = new ArrayList<>(Arrays.asList(701, 301, 132, 57, 23, 10, 4, 1));
+    /*
+     * Sorts an array using the Shell Sort algorithm with the given gap sequence.
+     *
+     * @param a        the array of Comparable objects to sort (modified in place)
+     * @param sequence the gap sequence to use
+     */
+    public static <T extends Comparable<T>> void shellSort(T[] a, GapSequence sequence) {
 
-        // Get the length of the array
-        int n = a.length;
+        shellSort(a, 0, a.length, sequence);
+    }
+
+    /*
+     * Sorts the range a[fromIndex..toIndex-1] using the Shell Sort algorithm with Ciura gap sequence.
+     *
+     * @param a         the array of Comparable objects to sort (modified in place)
+     * @param fromIndex the index of the first element, inclusive, to be sorted
+     * @param toIndex   the index of the last element, exclusive, to be sorted
+     * @throws IllegalArgumentException       if fromIndex > toIndex
+     * @throws ArrayIndexOutOfBoundsException if fromIndex < 0 or toIndex > a.length
+     */
+    public static <T extends Comparable<T>> void shellSort(T[] a, int fromIndex, int toIndex) {
+
+        shellSort(a, fromIndex, toIndex, GapSequence.CIURA);
+    }
+
+    /*
+     * Sorts the range a[fromIndex..toIndex-1] using the Shell Sort algorithm with the given
+     * gap sequence.
+     *
+     * @param a         the array of Comparable objects to sort (modified in place)
+     * @param fromIndex the index of the first element, inclusive, to be sorted
+     * @param toIndex   the index of the last element, exclusive, to be sorted
+     * @param sequence  the gap sequence to use
+     * @throws IllegalArgumentException       if fromIndex > toIndex
+     * @throws ArrayIndexOutOfBoundsException if fromIndex < 0 or toIndex > a.length
+     */
+    public static <T extends Comparable<T>> void shellSort(T[] a, int fromIndex, int toIndex, GapSequence sequence) {
+
+        rangeCheck(a.length, fromIndex, toIndex);
+
+        // Cached gaps of the chosen sequence, in ascending order
+        int[] gaps = sequence.gaps();
+
+        // Get the length of the range
+        int n = toIndex - fromIndex;
+
+        // Start with the largest gap below n and work down to a gap of 1
+        for (int g = sequence.startIndex(n); g >= 0; g--) {
+            int gap = gaps[g];
 
-        // Start with the largest gap and work down to a gap of 1
-        for (int gap : gaps) {
             // Do a gapped insertion sort for every element in gaps
-            for (int i = gap; i < n; i += 1) {
+            for (int i = fromIndex + gap; i < toIndex; i += 1) {
                 // Save a[i] in temp and make a hole at position i
                 T temp = a[i];
 
                 // Shift earlier gap-sorted elements up until the correct location for a[i] is found
                 int j;
-                for (j = i; (j >= gap) && (a[j - gap].compareTo(temp) > 0); j -= gap) {
+                for (j = i; (j >= fromIndex + gap) && (a[j - gap].compareTo(temp) > 0); j -= gap) {
                     a[j] = a[j - gap];
                 }
 
@@ -111,16 +208,1929 @@ public class SortingUtility {
 
     }
 
-    private static <T extends Comparable<T>> void swap(T[] data, int index1, int index2) {
+    // ==================== COMPARATOR OVERLOADS ====================
 
-        T temp = data[index1];
-        data[index1] = data[index2];
-        data[index2] = temp;
+    /*
+     * Sorts an array using the Gnome Sort algorithm and the order induced by a Comparator
+     *
+     * @param a the array to sort (modified in place)
+     * @param c the comparator that determines the order of the array
+     */
+    public static <T> void gnomeSort(T[] a, Comparator<? super T> c) {
 
+        gnomeSort(a, 0, a.length, c);
     }
-}
 
+    /*
+     * Sorts the range a[fromIndex..toIndex-1] using the Gnome Sort algorithm and the order
+     * induced by a Comparator
+     *
+     * @param a         the array to sort (modified in place)
+     * @param fromIndex the index of the first element, inclusive, to be sorted
+     * @param toIndex   the index of the last element, exclusive, to be sorted
+     * @param c         the comparator that determines the order of the array
+     * @throws IllegalArgumentException       if fromIndex > toIndex
+     * @throws ArrayIndexOutOfBoundsException if fromIndex < 0 or toIndex > a.length
+     */
+    public static <T> void gnomeSort(T[] a, int fromIndex, int toIndex, Comparator<? super T> c) {
+
+        rangeCheck(a.length, fromIndex, toIndex);
+
+        int pos = fromIndex;
+
+        while (pos < toIndex) {
+            if (pos == fromIndex || c.compare(a[pos], a[pos - 1]) >= 0) {
+                pos = pos + 1;
+            } else {
+                swap(a, pos, pos - 1);
+                pos = pos - 1;
+            }
+        }
+    }
+
+    /*
+     * Sorts an array using the Cocktail Shaker Sort algorithm and the order induced by a Comparator
+     *
+     * @param a the array to sort (modified in place)
+     * @param c the comparator that determines the order of the array
+     */
+    public static <T> void cocktailShakerSort(T[] a, Comparator<? super T> c) {
+
+        cocktailShakerSort(a, 0, a.length, c);
+    }
+
+    /*
+     * Sorts the range a[fromIndex..toIndex-1] using the shrinking-window Cocktail Shaker Sort
+     * and the order induced by a Comparator
+     *
+     * @param a         the array to sort (modified in place)
+     * @param fromIndex the index of the first element, inclusive, to be sorted
+     * @param toIndex   the index of the last element, exclusive, to be sorted
+     * @param c         the comparator that determines the order of the array
+     * @throws IllegalArgumentException       if fromIndex > toIndex
+     * @throws ArrayIndexOutOfBoundsException if fromIndex < 0 or toIndex > a.length
+     */
+    public static <T> void cocktailShakerSort(T[] a, int fromIndex, int toIndex, Comparator<? super T> c) {
+
+        rangeCheck(a.length, fromIndex, toIndex);
+
+        boolean swapped;
+        int begin = fromIndex;
+        int end = toIndex - 1;
+
+        do {
+            swapped = false;
+            int lastSwap = begin;
+
+            // Forward pass
+            for (int i = begin; i < end; i++) {
+                if (c.compare(a[i], a[i + 1]) > 0) {
+                    swap(a, i, i + 1);
+                    swapped = true;
+                    lastSwap = i;
+                }
+            }
+            end = lastSwap;
+
+            if (!swapped) {
+                break;
+            }
+
+            swapped = false;
+            lastSwap = end;
+
+            // Backward pass
+            for (int i = end - 1; i >= begin; i--) {
+                if (c.compare(a[i], a[i + 1]) > 0) {
+                    swap(a, i, i + 1);
+                    swapped = true;
+                    lastSwap = i;
+                }
+            }
+            begin = lastSwap + 1;
+        } while (swapped);
+    }
+
+    /*
+     * Sorts an array using the Shell Sort algorithm with Ciura gap sequence and the order
+     * induced by a Comparator.
+     *
+     * @param a the array to sort (modified in place)
+     * @param c the comparator that determines the order of the array
+     */
+    public static <T> void shellSort(T[] a, Comparator<? super T> c) {
+
+        shellSort(a, 0, a.length, c, GapSequence.CIURA);
+    }
+
+    /*
+     * Sorts an array using the Shell Sort algorithm with the given gap sequence and the order
+     * induced by a Comparator.
+     *
+     * @param a        the array to sort (modified in place)
+     * @param c        the comparator that determines the order of the array
+     * @param sequence the gap sequence to use
+     */
+    public static <T> void shellSort(T[] a, Comparator<? super T> c, GapSequence sequence) {
+
+        shellSort(a, 0, a.length, c, sequence);
+    }
+
+    /*
+     * Sorts the range a[fromIndex..toIndex-1] using the Shell Sort algorithm with Ciura gap
+     * sequence and the order induced by a Comparator.
+     *
+     * @param a         the array to sort (modified in place)
+     * @param fromIndex the index of the first element, inclusive, to be sorted
+     * @param toIndex   the index of the last element, exclusive, to be sorted
+     * @param c         the comparator that determines the order of the array
+     * @throws IllegalArgumentException       if fromIndex > toIndex
+     * @throws ArrayIndexOutOfBoundsException if fromIndex < 0 or toIndex > a.length
+     */
+    public static <T> void shellSort(T[] a, int fromIndex, int toIndex, Comparator<? super T> c) {
+
+        shellSort(a, fromIndex, toIndex, c, GapSequence.CIURA);
+    }
+
+    /*
+     * Sorts the range a[fromIndex..toIndex-1] using the Shell Sort algorithm with the given
+     * gap sequence and the order induced by a Comparator.
+     *
+     * @param a         the array to sort (modified in place)
+     * @param fromIndex the index of the first element, inclusive, to be sorted
+     * @param toIndex   the index of the last element, exclusive, to be sorted
+     * @param c         the comparator that determines the order of the array
+     * @param sequence  the gap sequence to use
+     * @throws IllegalArgumentException       if fromIndex > toIndex
+     * @throws ArrayIndexOutOfBoundsException if fromIndex < 0 or toIndex > a.length
+     */
+    public static <T> void shellSort(T[] a, int fromIndex, int toIndex, Comparator<? super T> c,
+                                     GapSequence sequence) {
+
+        rangeCheck(a.length, fromIndex, toIndex);
+
+        int[] gaps = sequence.gaps();
+        int n = toIndex - fromIndex;
+
+        for (int g = sequence.startIndex(n); g >= 0; g--) {
+            int gap = gaps[g];
+
+            for (int i = fromIndex + gap; i < toIndex; i += 1) {
+                T temp = a[i];
+
+                int j;
+                for (j = i; (j >= fromIndex + gap) && (c.compare(a[j - gap], temp) > 0); j -= gap) {
+                    a[j] = a[j - gap];
+                }
+
+                a[j] = temp;
+            }
+        }
+    }
+
+    // ==================== GNOME SORT VARIANTS ====================
+
+    /*
+     * Sorts an array using Gnome Sort with a remembered position: after walking an element back
+     * to its place, the gnome "teleports" straight to where it left off instead of re-walking
+     * forward over the elements it just passed. Stable.
+     *
+     * @param a the array of Comparable objects to sort (modified in place)
+     */
+    public static <T extends Comparable<T>> void teleportGnomeSort(T[] a) {
+
+        teleportGnomeSort(a, 0, a.length, Comparator.naturalOrder());
+    }
+
+    /*
+     * Sorts an array using Gnome Sort with a remembered position and the order induced by a
+     * Comparator. Stable.
+     *
+     * @param a the array to sort (modified in place)
+     * @param c the comparator that determines the order of the array
+     */
+    public static <T> void teleportGnomeSort(T[] a, Comparator<? super T> c) {
+
+        teleportGnomeSort(a, 0, a.length, c);
+    }
+
+    /*
+     * Sorts the range a[fromIndex..toIndex-1] using Gnome Sort with a remembered position and
+     * the order induced by a Comparator. Stable.
+     *
+     * @param a         the array to sort (modified in place)
+     * @param fromIndex the index of the first element, inclusive, to be sorted
+     * @param toIndex   the index of the last element, exclusive, to be sorted
+     * @param c         the comparator that determines the order of the array
+     * @throws IllegalArgumentException       if fromIndex > toIndex
+     * @throws ArrayIndexOutOfBoundsException if fromIndex < 0 or toIndex > a.length
+     */
+    public static <T> void teleportGnomeSort(T[] a, int fromIndex, int toIndex, Comparator<? super T> c) {
+
+        rangeCheck(a.length, fromIndex, toIndex);
+
+        // The position the gnome returns to once the current element has settled
+        for (int next = fromIndex + 1; next < toIndex; next++) {
+            int pos = next;
+
+            // Walk the element back one swap at a time until it is in order
+            while (pos > fromIndex && c.compare(a[pos], a[pos - 1]) < 0) {
+                swap(a, pos, pos - 1);
+                pos = pos - 1;
+            }
+        }
+    }
+
+    /*
+     * Sorts an array using Gnome Sort with binary insertion: an out-of-place element finds its
+     * spot by binary search and the elements in between move with one System.arraycopy.
+     * In-order elements still cost a single comparison, so nearly sorted input stays O(n),
+     * while the total number of comparisons is O(n log n). Stable.
+     *
+     * @param a the array of Comparable objects to sort (modified in place)
+     */
+    public static <T extends Comparable<T>> void binaryGnomeSort(T[] a) {
+
+        binaryGnomeSort(a, 0, a.length, Comparator.naturalOrder());
+    }
+
+    /*
+     * Sorts an array using Gnome Sort with binary insertion and the order induced by a
+     * Comparator. Stable.
+     *
+     * @param a the array to sort (modified in place)
+     * @param c the comparator that determines the order of the array
+     */
+    public static <T> void binaryGnomeSort(T[] a, Comparator<? super T> c) {
+
+        binaryGnomeSort(a, 0, a.length, c);
+    }
+
+    /*
+     * Sorts the range a[fromIndex..toIndex-1] using Gnome Sort with binary insertion and the
+     * order induced by a Comparator. Stable.
+     *
+     * @param a         the array to sort (modified in place)
+     * @param fromIndex the index of the first element, inclusive, to be sorted
+     * @param toIndex   the index of the last element, exclusive, to be sorted
+     * @param c         the comparator that determines the order of the array
+     * @throws IllegalArgumentException       if fromIndex > toIndex
+     * @throws ArrayIndexOutOfBoundsException if fromIndex < 0 or toIndex > a.length
+     */
+    public static <T> void binaryGnomeSort(T[] a, int fromIndex, int toIndex, Comparator<? super T> c) {
+
+        rangeCheck(a.length, fromIndex, toIndex);
+
+        for (int pos = fromIndex + 1; pos < toIndex; pos++) {
+            // Already in order: the gnome just steps forward
+            if (c.compare(a[pos], a[pos - 1]) >= 0) {
+                continue;
+            }
+
+            T temp = a[pos];
+
+            // a[pos - 1] is known to be greater, so search a[fromIndex..pos-2] for the first
+            // element greater than temp; landing after equal elements keeps the sort stable
+            int low = fromIndex;
+            int high = pos - 1;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (c.compare(temp, a[mid]) < 0) {
+                    high = mid;
+                } else {
+                    low = mid + 1;
+                }
+            }
+
+            // Shift the block a[low..pos-1] up by one and drop temp into the hole
+            System.arraycopy(a, low, a, low + 1, pos - low);
+            a[low] = temp;
+        }
+    }
+
+    // ==================== LIST OVERLOADS ====================
+    //
+    // The List overloads sort in place through get and set, so sorting an ArrayList needs no
+    // toArray copy and no transient array the size of the list. This applies to every
+    // RandomAccess list. ArrayList.get and set are bounds-checked reads and writes of its
+    // backing array, which the JIT inlines. A list without RandomAccess, such as LinkedList,
+    // would need a walk from one end for every get or set, so these lists are instead copied
+    // into an array, sorted, and written back in one pass with a ListIterator, the same
+    // fallback List.sort uses. To sort part of a list, pass a subList view.
+
+    /*
+     * Sorts a list in place using the Gnome Sort algorithm.
+     *
+     * @param list the list of Comparable objects to sort; must support set
+     */
+    public static <T extends Comparable<T>> void gnomeSort(List<T> list) {
+
+        gnomeSort(list, Comparator.naturalOrder());
+    }
+
+    /*
+     * Sorts a list in place using the Gnome Sort algorithm and the order induced by a
+     * Comparator.
+     *
+     * @param list the list to sort; must support set
+     * @param c    the comparator that determines the order of the list
+     */
+    public static <T> void gnomeSort(List<T> list, Comparator<? super T> c) {
+
+        if (!(list instanceof RandomAccess)) {
+            T[] a = toArray(list);
+            gnomeSort(a, c);
+            writeBack(list, a);
+            return;
+        }
+
+        int pos = 0;
+        int n = list.size();
+
+        while (pos < n) {
+            if (pos == 0 || c.compare(list.get(pos), list.get(pos - 1)) >= 0) {
+                pos = pos + 1;
+            } else {
+                swap(list, pos, pos - 1);
+                pos = pos - 1;
+            }
+        }
+    }
+
+    /*
+     * Sorts a list in place using the Cocktail Shaker Sort algorithm.
+     *
+     * @param list the list of Comparable objects to sort; must support set
+     */
+    public static <T extends Comparable<T>> void cocktailShakerSort(List<T> list) {
+
+        cocktailShakerSort(list, Comparator.naturalOrder());
+    }
+
+    /*
+     * Sorts a list in place using the Cocktail Shaker Sort algorithm (shrinking window) and
+     * the order induced by a Comparator.
+     *
+     * @param list the list to sort; must support set
+     * @param c    the comparator that determines the order of the list
+     */
+    public static <T> void cocktailShakerSort(List<T> list, Comparator<? super T> c) {
+
+        if (!(list instanceof RandomAccess)) {
+            T[] a = toArray(list);
+            cocktailShakerSort(a, c);
+            writeBack(list, a);
+            return;
+        }
+
+        boolean swapped;
+        int begin = 0;
+        int end = list.size() - 1;
+
+        do {
+            swapped = false;
+            int lastSwap = begin;
+
+            for (int i = begin; i < end; i++) {
+                if (c.compare(list.get(i), list.get(i + 1)) > 0) {
+                    swap(list, i, i + 1);
+                    swapped = true;
+                    lastSwap = i;
+                }
+            }
+            end = lastSwap;
+
+            if (!swapped) {
+                break;
+            }
+
+            swapped = false;
+            lastSwap = end;
+
+            for (int i = end - 1; i >= begin; i--) {
+                if (c.compare(list.get(i), list.get(i + 1)) > 0) {
+                    swap(list, i, i + 1);
+                    swapped = true;
+                    lastSwap = i;
+                }
+            }
+            begin = lastSwap + 1;
+        } while (swapped);
+    }
+
+    /*
+     * Sorts a list in place using the Shell Sort algorithm with Ciura gap sequence.
+     *
+     * @param list the list of Comparable objects to sort; must support set
+     */
+    public static <T extends Comparable<T>> void shellSort(List<T> list) {
+
+        shellSort(list, Comparator.naturalOrder());
+    }
+
+    /*
+     * Sorts a list in place using the Shell Sort algorithm with Ciura gap sequence and the
+     * order induced by a Comparator.
+     *
+     * @param list the list to sort; must support set
+     * @param c    the comparator that determines the order of the list
+     */
+    public static <T> void shellSort(List<T> list, Comparator<? super T> c) {
+
+        if (!(list instanceof RandomAccess)) {
+            T[] a = toArray(list);
+            shellSort(a, c);
+            writeBack(list, a);
+            return;
+        }
+
+        int[] gaps = GapSequence.CIURA.gaps();
+        int n = list.size();
 
+        for (int g = GapSequence.CIURA.startIndex(n); g >= 0; g--) {
+            int gap = gaps[g];
 
+            for (int i = gap; i < n; i += 1) {
+                T temp = list.get(i);
 
+                int j;
+                for (j = i; (j >= gap) && (c.compare(list.get(j - gap), temp) > 0); j -= gap) {
+                    list.set(j, list.get(j - gap));
+                }
 
+                list.set(j, temp);
+            }
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T[] toArray(List<T> list) {
+
+        return (T[]) list.toArray();
+    }
+
+    // Writes the sorted elements back in a single pass over the list
+    private static <T> void writeBack(List<T> list, T[] a) {
+
+        ListIterator<T> it = list.listIterator();
+        for (T e : a) {
+            it.next();
+            it.set(e);
+        }
+    }
+
+    // ==================== ADAPTIVE SORT ====================
+
+    // Inputs up to this length always go straight to insertion (gnome) sort
+    public static final int INSERTION_SORT_THRESHOLD = 32;
+
+    // Inputs up to this length that are not nearly sorted use Shell Sort; larger ones merge sort
+    public static final int SHELL_SORT_THRESHOLD = 4096;
+
+    // An input counts as nearly sorted when at most 1 in this many adjacent pairs is descending
+    private static final int NEARLY_SORTED_RATIO = 64;
+
+    // Elements sampled to estimate how many distinct keys an unordered input has
+    private static final int DISTINCT_SAMPLE_SIZE = 2048;
+
+    // An input counts as low-cardinality when at most 1 in this many sampled elements is a new key
+    private static final int LOW_CARDINALITY_RATIO = 4;
+
+    /*
+     * Sorts an array after a cheap pre-scan that picks the algorithm for this particular
+     * input: a no-op for sorted input, a reversal for strictly descending input, insertion
+     * sort for tiny or nearly sorted input, grouping by key for input with few distinct keys,
+     * Shell Sort for mid-sized input and merge sort for large unordered input.
+     *
+     * @param a the array of Comparable objects to sort (modified in place)
+     * @return the strategy that was used
+     */
+    public static <T extends Comparable<T>> SortStrategy sort(T[] a) {
+
+        return sort(a, Comparator.naturalOrder());
+    }
+
+    /*
+     * Sorts an array after a cheap pre-scan that picks the algorithm for this particular
+     * input. See sort(T[]) for the decision rules.
+     *
+     * @param a the array to sort (modified in place)
+     * @param c the comparator that determines the order of the array
+     * @return the strategy that was used
+     */
+    public static <T> SortStrategy sort(T[] a, Comparator<? super T> c) {
+
+        int n = a.length;
+        if (n < 2) {
+            return SortStrategy.ALREADY_SORTED;
+        }
+
+        // Pre-scan: count descending adjacent pairs (one less than the number of ascending runs)
+        // and check whether every pair is strictly descending
+        int descents = 0;
+        boolean strictlyDescending = true;
+        for (int i = 1; i < n; i++) {
+            if (c.compare(a[i - 1], a[i]) > 0) {
+                descents++;
+            } else {
+                strictlyDescending = false;
+            }
+        }
+
+        if (descents == 0) {
+            return SortStrategy.ALREADY_SORTED;
+        }
+
+        // Only a strictly descending run can be reversed without breaking the order of equal elements
+        if (strictlyDescending) {
+            reverse(a, 0, n);
+            return SortStrategy.REVERSED;
+        }
+
+        if (n <= INSERTION_SORT_THRESHOLD) {
+            gnomeSort(a, c);
+            return SortStrategy.INSERTION;
+        }
+
+        // Few descents is only a lower bound on the inversions (one misplaced block can hide many),
+        // so insertion sort gets a move budget of n. If it runs out, the array is left partially
+        // sorted and the fallback below finishes the job.
+        if (descents <= n / NEARLY_SORTED_RATIO && boundedInsertionSort(a, c, n)) {
+            return SortStrategy.INSERTION;
+        }
+
+        // A sample with few distinct keys suggests grouping; if the whole input turns out to have
+        // more than MAX_DISTINCT_KEYS keys, grouping gives up without having moved anything
+        if (isLowCardinalitySample(a, c) && groupByDistinctKey(a, c, MAX_DISTINCT_KEYS)) {
+            return SortStrategy.DISTINCT_KEYS;
+        }
+
+        if (n <= SHELL_SORT_THRESHOLD) {
+            shellSort(a, c);
+            return SortStrategy.SHELL;
+        }
+
+        Arrays.sort(a, c);
+        return SortStrategy.MERGE;
+    }
+
+    // Straight insertion sort that gives up once more than maxMoves elements have been shifted.
+    // Returns true if the array was fully sorted within the budget.
+    private static <T> boolean boundedInsertionSort(T[] a, Comparator<? super T> c, long maxMoves) {
+
+        long moves = 0;
+
+        for (int i = 1; i < a.length; i++) {
+            if (c.compare(a[i - 1], a[i]) <= 0) {
+                continue;
+            }
+
+            T temp = a[i];
+            int j = i;
+            do {
+                a[j] = a[j - 1];
+                j--;
+                moves++;
+            } while (j > 0 && c.compare(a[j - 1], temp) > 0 && moves <= maxMoves);
+
+            a[j] = temp;
+
+            if (moves > maxMoves) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    private static <T> void reverse(T[] a, int fromIndex, int toIndex) {
+
+        for (int i = fromIndex, j = toIndex - 1; i < j; i++, j--) {
+            swap(a, i, j);
+        }
+    }
+
+    // ==================== DUPLICATE-AWARE SORT ====================
+    //
+    // Production keys are often drawn from a few hundred values while n is in the millions.
+    // Gnome and Cocktail Shaker Sort stay quadratic on such input and Shell Sort keeps comparing
+    // equal elements. Grouping finds each element's key among the k distinct keys by binary
+    // search, then writes the groups back in key order in a single stable pass: about n log2(k)
+    // comparisons and 2n moves.
+
+    // Most distinct keys distinctKeySort groups by before it falls back to merge sort
+    public static final int MAX_DISTINCT_KEYS = 4096;
+
+    /*
+     * Sorts an array by grouping equal elements, for input with few distinct keys. Stable.
+     * Input with more than MAX_DISTINCT_KEYS distinct keys is merge sorted instead.
+     *
+     * @param a the array of Comparable objects to sort (modified in place)
+     */
+    public static <T extends Comparable<T>> void distinctKeySort(T[] a) {
+
+        distinctKeySort(a, Comparator.naturalOrder());
+    }
+
+    /*
+     * Sorts an array by grouping elements that are equal under a Comparator, for input with
+     * few distinct keys. Stable. Input with more than MAX_DISTINCT_KEYS distinct keys is
+     * merge sorted instead.
+     *
+     * @param a the array to sort (modified in place)
+     * @param c the comparator that determines the order of the array
+     */
+    public static <T> void distinctKeySort(T[] a, Comparator<? super T> c) {
+
+        Objects.requireNonNull(c);
+        if (!groupByDistinctKey(a, c, MAX_DISTINCT_KEYS)) {
+            Arrays.sort(a, c);
+        }
+    }
+
+    // True if an evenly spaced sample of a has at most 1 new key per LOW_CARDINALITY_RATIO
+    // elements. Stops as soon as the sample has too many keys, so a high-cardinality input
+    // costs only a few hundred lookups.
+    private static <T> boolean isLowCardinalitySample(T[] a, Comparator<? super T> c) {
+
+        int samples = Math.min(DISTINCT_SAMPLE_SIZE, a.length / LOW_CARDINALITY_RATIO);
+        int stride = a.length / samples;
+        DistinctKeys<T> keys = new DistinctKeys<>(c, samples / LOW_CARDINALITY_RATIO);
+
+        for (int i = 0; i < samples; i++) {
+            if (keys.idOf(a[i * stride]) < 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // Sorts a stably by placing every element after all elements of smaller keys and earlier
+    // elements of its own key. Returns false, with a unchanged, if a has more than maxKeys keys.
+    private static <T> boolean groupByDistinctKey(T[] a, Comparator<? super T> c, int maxKeys) {
+
+        int n = a.length;
+        DistinctKeys<T> keys = new DistinctKeys<>(c, maxKeys);
+        int[] ids = new int[n];
+        for (int i = 0; i < n; i++) {
+            ids[i] = keys.idOf(a[i]);
+            if (ids[i] < 0) {
+                return false;
+            }
+        }
+
+        int[] next = keys.starts();
+        Object[] grouped = new Object[n];
+        for (int i = 0; i < n; i++) {
+            grouped[next[ids[i]]++] = a[i];
+        }
+        System.arraycopy(grouped, 0, a, 0, n);
+        return true;
+    }
+
+    // ==================== PARALLEL SORTS ====================
+
+    // Minimum number of elements a parallel task works on before it stops splitting
+    public static final int DEFAULT_PARALLEL_THRESHOLD = 8192;
+
+    /*
+     * Sorts an array using Shell Sort, running the independent chains of each gap pass in
+     * parallel on the common Fork/Join pool. The result is identical to shellSort(a).
+     *
+     * @param a the array of Comparable objects to sort (modified in place)
+     */
+    public static <T extends Comparable<T>> void parallelShellSort(T[] a) {
+
+        parallelShellSort(a, Comparator.naturalOrder(), ForkJoinPool.commonPool(), DEFAULT_PARALLEL_THRESHOLD);
+    }
+
+    /*
+     * Sorts an array using Shell Sort, running the independent chains of each gap pass in
+     * parallel on the common Fork/Join pool. The result is identical to shellSort(a, c).
+     *
+     * @param a the array to sort (modified in place)
+     * @param c the comparator that determines the order of the array
+     */
+    public static <T> void parallelShellSort(T[] a, Comparator<? super T> c) {
+
+        parallelShellSort(a, c, ForkJoinPool.commonPool(), DEFAULT_PARALLEL_THRESHOLD);
+    }
+
+    /*
+     * Sorts an array using Shell Sort, running the independent chains of each gap pass in
+     * parallel on the given pool. Arrays shorter than the threshold are sorted serially. Passes
+     * with a gap below ParallelShellSort.MIN_PARALLEL_GAP also run on the calling thread: their
+     * few chains interleave element by element, so parallel tasks would write to the same
+     * cache lines and the fork overhead would outweigh the work.
+     *
+     * @param a         the array to sort (modified in place)
+     * @param c         the comparator that determines the order of the array
+     * @param pool      the pool that runs the gap passes
+     * @param threshold the minimum number of elements handed to one task
+     * @throws IllegalArgumentException if threshold is not positive
+     */
+    public static <T> void parallelShellSort(T[] a, Comparator<? super T> c, ForkJoinPool pool, int threshold) {
+
+        Objects.requireNonNull(c);
+        Objects.requireNonNull(pool);
+        if (threshold <= 0) {
+            throw new IllegalArgumentException("threshold must be positive: " + threshold);
+        }
+
+        int n = a.length;
+
+        // Small arrays are not worth the task overhead
+        if (n < threshold) {
+            shellSort(a, c);
+            return;
+        }
+
+        int[] gaps = GapSequence.CIURA.gaps();
+
+        for (int g = GapSequence.CIURA.startIndex(n); g >= 0; g--) {
+            int gap = gaps[g];
+
+            if (gap < ParallelShellSort.MIN_PARALLEL_GAP) {
+                ParallelShellSort.sortChains(a, c, gap, 0, gap);
+            } else {
+                pool.invoke(new ParallelShellSort<>(a, c, gap, 0, gap, threshold));
+            }
+        }
+    }
+
+    /*
+     * Sorts an array with a block odd-even transposition sort, the parallel counterpart of
+     * Cocktail Shaker Sort, on the common Fork/Join pool. Stable, like cocktailShakerSort.
+     *
+     * @param a the array of Comparable objects to sort (modified in place)
+     */
+    public static <T extends Comparable<T>> void parallelOddEvenSort(T[] a) {
+
+        parallelOddEvenSort(a, Comparator.naturalOrder(), ForkJoinPool.commonPool());
+    }
+
+    /*
+     * Sorts an array with a block odd-even transposition sort on the common Fork/Join pool.
+     *
+     * @param a the array to sort (modified in place)
+     * @param c the comparator that determines the order of the array
+     */
+    public static <T> void parallelOddEvenSort(T[] a, Comparator<? super T> c) {
+
+        parallelOddEvenSort(a, c, ForkJoinPool.commonPool());
+    }
+
+    /*
+     * Sorts an array with a block odd-even transposition sort on a dedicated pool of the
+     * given number of threads, which is shut down before returning. To avoid creating a pool
+     * on every call, pass a ForkJoinPool instead.
+     *
+     * @param a       the array to sort (modified in place)
+     * @param c       the comparator that determines the order of the array
+     * @param threads the number of worker threads
+     * @throws IllegalArgumentException if threads is not positive
+     */
+    public static <T> void parallelOddEvenSort(T[] a, Comparator<? super T> c, int threads) {
+
+        if (threads <= 0) {
+            throw new IllegalArgumentException("threads must be positive: " + threads);
+        }
+        try (ForkJoinPool pool = new ForkJoinPool(threads)) {
+            parallelOddEvenSort(a, c, pool);
+        }
+    }
+
+    /*
+     * Sorts an array with a block odd-even transposition sort on the given pool.
+     *
+     * The array is cut into two blocks per worker thread of the pool and each block is
+     * sorted on its own. Then alternating even and odd phases merge-split neighbouring
+     * blocks, every pair of a phase in parallel, until two phases in a row change nothing.
+     * Nearly sorted input typically finishes after the first few phases. Arrays shorter than
+     * DEFAULT_PARALLEL_THRESHOLD, or a pool with a single thread, use cocktailShakerSort.
+     *
+     * @param a    the array to sort (modified in place)
+     * @param c    the comparator that determines the order of the array
+     * @param pool the pool that runs the phases
+     */
+    public static <T> void parallelOddEvenSort(T[] a, Comparator<? super T> c, ForkJoinPool pool) {
+
+        Objects.requireNonNull(c);
+        int threads = pool.getParallelism();
+
+        if (a.length < DEFAULT_PARALLEL_THRESHOLD || threads == 1) {
+            cocktailShakerSort(a, c);
+            return;
+        }
+
+        OddEvenBlockSort.sort(a, c, pool, 2 * threads);
+    }
+
+    // ==================== CACHED-KEY (DECORATE-SORT-UNDECORATE) SORTS ====================
+    //
+    // The sortBy...Key methods call the key extractor exactly once per element, sort the
+    // extracted keys together with each element's original index, and then move every
+    // element to its final slot in a single permutation pass. Ties on the key are broken by
+    // the original index, so these sorts are stable even though they use Shell Sort.
+
+    /*
+     * Sorts an array by an int key that is computed once per element.
+     *
+     * @param a   the array to sort (modified in place)
+     * @param key extracts the sort key of an element
+     */
+    public static <T> void sortByIntKey(T[] a, ToIntFunction<? super T> key) {
+
+        int n = a.length;
+
+        // Pack (key, index) into one long: the key in the high half keeps its signed order
+        // and the non-negative index in the low half breaks ties
+        long[] packed = new long[n];
+        for (int i = 0; i < n; i++) {
+            packed[i] = ((long) key.applyAsInt(a[i]) << 32) | i;
+        }
+
+        shellSort(packed);
+
+        int[] perm = new int[n];
+        for (int i = 0; i < n; i++) {
+            perm[i] = (int) packed[i];
+        }
+        applyValidPermutation(a, perm);
+    }
+
+    /*
+     * Sorts an array by a long key that is computed once per element.
+     *
+     * @param a   the array to sort (modified in place)
+     * @param key extracts the sort key of an element
+     */
+    public static <T> void sortByLongKey(T[] a, ToLongFunction<? super T> key) {
+
+        int n = a.length;
+        long[] keys = new long[n];
+        for (int i = 0; i < n; i++) {
+            keys[i] = key.applyAsLong(a[i]);
+        }
+
+        applyValidPermutation(a, shellSortIndices(keys));
+    }
+
+    /*
+     * Sorts an array by a double key that is computed once per element
+     * (Double.compare ordering: -0.0 before 0.0, NaN last).
+     *
+     * @param a   the array to sort (modified in place)
+     * @param key extracts the sort key of an element
+     */
+    public static <T> void sortByDoubleKey(T[] a, ToDoubleFunction<? super T> key) {
+
+        int n = a.length;
+        long[] keys = new long[n];
+        for (int i = 0; i < n; i++) {
+            // Flip the magnitude bits of negative values so the signed long order of the
+            // bit patterns matches Double.compare
+            long bits = Double.doubleToLongBits(key.applyAsDouble(a[i]));
+            keys[i] = bits ^ ((bits >> 63) & Long.MAX_VALUE);
+        }
+
+        applyValidPermutation(a, shellSortIndices(keys));
+    }
+
+    /*
+     * Sorts an array by a Comparable key that is computed once per element.
+     *
+     * @param a   the array to sort (modified in place)
+     * @param key extracts the sort key of an element
+     */
+    public static <T, U extends Comparable<? super U>> void sortByKey(T[] a, Function<? super T, ? extends U> key) {
+
+        int n = a.length;
+        Object[] keys = new Object[n];
+        for (int i = 0; i < n; i++) {
+            keys[i] = key.apply(a[i]);
+        }
+
+        applyValidPermutation(a, shellSortIndices(keys));
+    }
+
+    // Shell Sorts keys together with their original indices and returns the indices in sorted order
+    private static int[] shellSortIndices(long[] keys) {
+
+        int n = keys.length;
+        int[] idx = new int[n];
+        for (int i = 0; i < n; i++) {
+            idx[i] = i;
+        }
+
+        int[] gaps = GapSequence.CIURA.gaps();
+
+        for (int g = GapSequence.CIURA.startIndex(n); g >= 0; g--) {
+            int gap = gaps[g];
+
+            for (int i = gap; i < n; i += 1) {
+                long tempKey = keys[i];
+                int tempIdx = idx[i];
+
+                int j;
+                for (j = i; (j >= gap) && (keys[j - gap] > tempKey
+                        || (keys[j - gap] == tempKey && idx[j - gap] > tempIdx)); j -= gap) {
+                    keys[j] = keys[j - gap];
+                    idx[j] = idx[j - gap];
+                }
+
+                keys[j] = tempKey;
+                idx[j] = tempIdx;
+            }
+        }
+
+        return idx;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static int[] shellSortIndices(Object[] keys) {
+
+        int n = keys.length;
+        int[] idx = new int[n];
+        for (int i = 0; i < n; i++) {
+            idx[i] = i;
+        }
+
+        int[] gaps = GapSequence.CIURA.gaps();
+
+        for (int g = GapSequence.CIURA.startIndex(n); g >= 0; g--) {
+            int gap = gaps[g];
+
+            for (int i = gap; i < n; i += 1) {
+                Object tempKey = keys[i];
+                int tempIdx = idx[i];
+
+                int j;
+                for (j = i; j >= gap; j -= gap) {
+                    int cmp = ((Comparable<Object>) keys[j - gap]).compareTo(tempKey);
+                    if (cmp < 0 || (cmp == 0 && idx[j - gap] < tempIdx)) {
+                        break;
+                    }
+                    keys[j] = keys[j - gap];
+                    idx[j] = idx[j - gap];
+                }
+
+                keys[j] = tempKey;
+                idx[j] = tempIdx;
+            }
+        }
+
+        return idx;
+    }
+
+    // ==================== INDIRECT (ARGSORT) SORTS ====================
+    //
+    // The arg... methods sort a permutation of indices instead of the elements: perm[i] is
+    // the index in a of the element that belongs at position i, and a itself is never
+    // modified. One array can then carry several sort orders (a[byName[i]], a[byAge[i]]) at
+    // the cost of an int[] each. applyPermutation turns a permutation into an in-place
+    // reordering when one is needed. All three algorithms break ties by the original index,
+    // so every argsort is stable and equal inputs always give the same permutation.
+
+    /*
+     * Returns the permutation that sorts an array by Gnome Sort, leaving the array untouched.
+     *
+     * @param a the array of Comparable objects to sort (not modified)
+     * @return perm with a[perm[0]] <= a[perm[1]] <= ...
+     */
+    public static <T extends Comparable<T>> int[] argGnomeSort(T[] a) {
+
+        return argGnomeSort(a, Comparator.naturalOrder());
+    }
+
+    /*
+     * Returns the permutation that sorts an array by Gnome Sort and the order induced by a
+     * Comparator, leaving the array untouched.
+     *
+     * @param a the array to sort (not modified)
+     * @param c the comparator that determines the order of the array
+     * @return perm with a[perm[0]] <= a[perm[1]] <= ... under c
+     */
+    public static <T> int[] argGnomeSort(T[] a, Comparator<? super T> c) {
+
+        int[] perm = new int[a.length];
+        argGnomeSort(a, c, perm);
+        return perm;
+    }
+
+    /*
+     * Fills perm with the permutation that sorts an array by Gnome Sort and the order
+     * induced by a Comparator. The previous contents of perm are ignored.
+     *
+     * @param a    the array to sort (not modified)
+     * @param c    the comparator that determines the order of the array
+     * @param perm receives the permutation
+     * @throws IllegalArgumentException if perm.length != a.length
+     */
+    public static <T> void argGnomeSort(T[] a, Comparator<? super T> c, int[] perm) {
+
+        identity(perm, a.length);
+
+        int pos = 0;
+        while (pos < perm.length) {
+            // Adjacent swaps only on a strict inversion keep equal elements in index order
+            if (pos == 0 || c.compare(a[perm[pos]], a[perm[pos - 1]]) >= 0) {
+                pos = pos + 1;
+            } else {
+                swap(perm, pos, pos - 1);
+                pos = pos - 1;
+            }
+        }
+    }
+
+    /*
+     * Returns the permutation that sorts an array by Cocktail Shaker Sort, leaving the array
+     * untouched.
+     *
+     * @param a the array of Comparable objects to sort (not modified)
+     * @return perm with a[perm[0]] <= a[perm[1]] <= ...
+     */
+    public static <T extends Comparable<T>> int[] argCocktailShakerSort(T[] a) {
+
+        return argCocktailShakerSort(a, Comparator.naturalOrder());
+    }
+
+    /*
+     * Returns the permutation that sorts an array by Cocktail Shaker Sort and the order
+     * induced by a Comparator, leaving the array untouched.
+     *
+     * @param a the array to sort (not modified)
+     * @param c the comparator that determines the order of the array
+     * @return perm with a[perm[0]] <= a[perm[1]] <= ... under c
+     */
+    public static <T> int[] argCocktailShakerSort(T[] a, Comparator<? super T> c) {
+
+        int[] perm = new int[a.length];
+        argCocktailShakerSort(a, c, perm);
+        return perm;
+    }
+
+    /*
+     * Fills perm with the permutation that sorts an array by the shrinking-window Cocktail
+     * Shaker Sort and the order induced by a Comparator. The previous contents of perm are
+     * ignored.
+     *
+     * @param a    the array to sort (not modified)
+     * @param c    the comparator that determines the order of the array
+     * @param perm receives the permutation
+     * @throws IllegalArgumentException if perm.length != a.length
+     */
+    public static <T> void argCocktailShakerSort(T[] a, Comparator<? super T> c, int[] perm) {
+
+        identity(perm, a.length);
+
+        boolean swapped;
+        int begin = 0;
+        int end = perm.length - 1;
+
+        do {
+            swapped = false;
+            int lastSwap = begin;
+
+            // Forward pass
+            for (int i = begin; i < end; i++) {
+                if (c.compare(a[perm[i]], a[perm[i + 1]]) > 0) {
+                    swap(perm, i, i + 1);
+                    swapped = true;
+                    lastSwap = i;
+                }
+            }
+            end = lastSwap;
+
+            if (!swapped) {
+                break;
+            }
+
+            swapped = false;
+            lastSwap = end;
+
+            // Backward pass
+            for (int i = end - 1; i >= begin; i--) {
+                if (c.compare(a[perm[i]], a[perm[i + 1]]) > 0) {
+                    swap(perm, i, i + 1);
+                    swapped = true;
+                    lastSwap = i;
+                }
+            }
+            begin = lastSwap + 1;
+        } while (swapped);
+    }
+
+    /*
+     * Returns the permutation that sorts an array by Shell Sort with the Ciura gap sequence,
+     * leaving the array untouched.
+     *
+     * @param a the array of Comparable objects to sort (not modified)
+     * @return perm with a[perm[0]] <= a[perm[1]] <= ...
+     */
+    public static <T extends Comparable<T>> int[] argShellSort(T[] a) {
+
+        return argShellSort(a, Comparator.naturalOrder());
+    }
+
+    /*
+     * Returns the permutation that sorts an array by Shell Sort with the Ciura gap sequence
+     * and the order induced by a Comparator, leaving the array untouched.
+     *
+     * @param a the array to sort (not modified)
+     * @param c the comparator that determines the order of the array
+     * @return perm with a[perm[0]] <= a[perm[1]] <= ... under c
+     */
+    public static <T> int[] argShellSort(T[] a, Comparator<? super T> c) {
+
+        int[] perm = new int[a.length];
+        argShellSort(a, c, perm);
+        return perm;
+    }
+
+    /*
+     * Fills perm with the permutation that sorts an array by Shell Sort with the Ciura gap
+     * sequence and the order induced by a Comparator. The previous contents of perm are
+     * ignored.
+     *
+     * @param a    the array to sort (not modified)
+     * @param c    the comparator that determines the order of the array
+     * @param perm receives the permutation
+     * @throws IllegalArgumentException if perm.length != a.length
+     */
+    public static <T> void argShellSort(T[] a, Comparator<? super T> c, int[] perm) {
+
+        identity(perm, a.length);
+        int n = perm.length;
+
+        int[] gaps = GapSequence.CIURA.gaps();
+
+        for (int g = GapSequence.CIURA.startIndex(n); g >= 0; g--) {
+            int gap = gaps[g];
+
+            for (int i = gap; i < n; i += 1) {
+                int temp = perm[i];
+
+                int j;
+                for (j = i; j >= gap; j -= gap) {
+                    // Gapped moves jump over equal elements, so ties fall back to the index
+                    int cmp = c.compare(a[perm[j - gap]], a[temp]);
+                    if (cmp < 0 || (cmp == 0 && perm[j - gap] < temp)) {
+                        break;
+                    }
+                    perm[j] = perm[j - gap];
+                }
+
+                perm[j] = temp;
+            }
+        }
+    }
+
+    /*
+     * Rearranges an array in place so that a[i] becomes the old a[perm[i]], following each
+     * cycle of the permutation once: n element moves and no second array. Applying an
+     * argsort result this way gives the same array as the matching in-place sort.
+     *
+     * @param a    the array to rearrange (modified in place)
+     * @param perm a permutation of 0..a.length-1 (unchanged on return)
+     * @throws IllegalArgumentException if perm is not a permutation of 0..a.length-1; a is
+     *                                  then left unchanged
+     */
+    public static <T> void applyPermutation(T[] a, int[] perm) {
+
+        if (perm.length != a.length) {
+            throw new IllegalArgumentException("permutation length " + perm.length
+                    + " does not match array length " + a.length);
+        }
+        for (int i = 0; i < perm.length; i++) {
+            if (perm[i] < 0 || perm[i] >= perm.length) {
+                throw new IllegalArgumentException("not a permutation: index " + perm[i] + " at position " + i);
+            }
+        }
+
+        // Mark every target by complementing it; a target marked twice means a duplicate
+        int duplicate = -1;
+        for (int i = 0; i < perm.length && duplicate < 0; i++) {
+            int k = perm[i] < 0 ? ~perm[i] : perm[i];
+            if (perm[k] < 0) {
+                duplicate = i;
+            } else {
+                perm[k] = ~perm[k];
+            }
+        }
+        for (int i = 0; i < perm.length; i++) {
+            if (perm[i] < 0) {
+                perm[i] = ~perm[i];
+            }
+        }
+        if (duplicate >= 0) {
+            throw new IllegalArgumentException("not a permutation: index " + perm[duplicate]
+                    + " repeated at position " + duplicate);
+        }
+
+        applyValidPermutation(a, perm);
+    }
+
+    // Rearranges a so that a[i] becomes the old a[perm[i]], following each cycle of the
+    // permutation once. Visited entries of perm are marked by complementing them and
+    // restored before returning.
+    private static <T> void applyValidPermutation(T[] a, int[] perm) {
+
+        for (int start = 0; start < perm.length; start++) {
+            if (perm[start] < 0) {
+                continue;
+            }
+
+            T temp = a[start];
+            int j = start;
+            while (true) {
+                int k = perm[j];
+                perm[j] = ~k;
+                if (k == start) {
+                    a[j] = temp;
+                    break;
+                }
+                a[j] = a[k];
+                j = k;
+            }
+        }
+
+        for (int i = 0; i < perm.length; i++) {
+            perm[i] = ~perm[i];
+        }
+    }
+
+    // Fills perm with 0..n-1
+    private static void identity(int[] perm, int n) {
+
+        if (perm.length != n) {
+            throw new IllegalArgumentException("permutation length " + perm.length
+                    + " does not match array length " + n);
+        }
+        for (int i = 0; i < n; i++) {
+            perm[i] = i;
+        }
+    }
+
+    // ==================== SELECTION ====================
+    //
+    // select, partialSort and topK answer "which elements are the k smallest" without paying
+    // for a full sort. For the k largest, pass Comparator.reverseOrder() or a reversed comparator.
+
+    // Ranges up to this length are finished with gnome sort instead of being partitioned further
+    private static final int SELECT_INSERTION_THRESHOLD = 16;
+
+    /*
+     * Rearranges the array so that a[k] holds the element that would be there if the array
+     * were sorted, every element before it is less than or equal to it and every element
+     * after it is greater than or equal to it. Uses introselect: quickselect with
+     * median-of-three pivots and three-way partitioning, falling back to a full sort of the
+     * remaining range if partitioning keeps going badly. Expected O(n) time, no allocation.
+     *
+     * @param a the array of Comparable objects (modified in place)
+     * @param k the index of the element to select
+     * @return the selected element, a[k]
+     * @throws IllegalArgumentException if k is not a valid index
+     */
+    public static <T extends Comparable<T>> T select(T[] a, int k) {
+
+        return select(a, 0, a.length, k, Comparator.naturalOrder());
+    }
+
+    /*
+     * Selects the element at index k, ordered by a Comparator. See select(T[], int).
+     *
+     * @param a the array (modified in place)
+     * @param k the index of the element to select
+     * @param c the comparator that determines the order of the array
+     * @return the selected element, a[k]
+     * @throws IllegalArgumentException if k is not a valid index
+     */
+    public static <T> T select(T[] a, int k, Comparator<? super T> c) {
+
+        return select(a, 0, a.length, k, c);
+    }
+
+    /*
+     * Selects the element at index k within the range a[fromIndex..toIndex-1], ordered by a
+     * Comparator. Elements outside the range are not touched. See select(T[], int).
+     *
+     * @param a         the array (modified in place)
+     * @param fromIndex the index of the first element, inclusive, of the range
+     * @param toIndex   the index of the last element, exclusive, of the range
+     * @param k         the index of the element to select, fromIndex <= k < toIndex
+     * @param c         the comparator that determines the order of the array
+     * @return the selected element, a[k]
+     * @throws IllegalArgumentException       if fromIndex > toIndex or k is outside the range
+     * @throws ArrayIndexOutOfBoundsException if fromIndex < 0 or toIndex > a.length
+     */
+    public static <T> T select(T[] a, int fromIndex, int toIndex, int k, Comparator<? super T> c) {
+
+        rangeCheck(a.length, fromIndex, toIndex);
+        if (k < fromIndex || k >= toIndex) {
+            throw new IllegalArgumentException("k(" + k + ") outside [" + fromIndex + ", " + toIndex + ")");
+        }
+
+        int lo = fromIndex;
+        int hi = toIndex - 1;
+
+        // Introselect: after 2 log2(n) partitions without converging, stop trusting the pivots
+        int budget = 2 * (32 - Integer.numberOfLeadingZeros(toIndex - fromIndex));
+
+        while (hi - lo >= SELECT_INSERTION_THRESHOLD) {
+            if (budget-- == 0) {
+                Arrays.sort(a, lo, hi + 1, c);
+                return a[k];
+            }
+
+            T pivot = a[medianOfThree(a, lo, (lo + hi) >>> 1, hi, c)];
+
+            // Three-way partition: a[lo..lt-1] < pivot, a[lt..gt] == pivot, a[gt+1..hi] > pivot
+            int lt = lo;
+            int gt = hi;
+            int i = lo;
+            while (i <= gt) {
+                int cmp = c.compare(a[i], pivot);
+                if (cmp < 0) {
+                    swap(a, lt++, i++);
+                } else if (cmp > 0) {
+                    swap(a, i, gt--);
+                } else {
+                    i++;
+                }
+            }
+
+            if (k < lt) {
+                hi = lt - 1;
+            } else if (k > gt) {
+                lo = gt + 1;
+            } else {
+                return a[k];
+            }
+        }
+
+        gnomeSort(a, lo, hi + 1, c);
+        return a[k];
+    }
+
+    /*
+     * Rearranges the array so that its first k positions hold the k smallest elements in
+     * sorted order. The order of the remaining elements is unspecified. Selects the k-th
+     * element first and then Shell Sorts only the first k positions, so the cost is close to
+     * linear when k is much smaller than the array. No allocation.
+     *
+     * @param a the array of Comparable objects (modified in place)
+     * @param k how many of the smallest elements to sort into place
+     * @throws IllegalArgumentException if k < 0 or k > a.length
+     */
+    public static <T extends Comparable<T>> void partialSort(T[] a, int k) {
+
+        partialSort(a, 0, a.length, k, Comparator.naturalOrder());
+    }
+
+    /*
+     * Sorts the k smallest elements into the first k positions, ordered by a Comparator.
+     * See partialSort(T[], int).
+     *
+     * @param a the array (modified in place)
+     * @param k how many of the smallest elements to sort into place
+     * @param c the comparator that determines the order of the array
+     * @throws IllegalArgumentException if k < 0 or k > a.length
+     */
+    public static <T> void partialSort(T[] a, int k, Comparator<? super T> c) {
+
+        partialSort(a, 0, a.length, k, c);
+    }
+
+    /*
+     * Sorts the k smallest elements of the range a[fromIndex..toIndex-1] into
+     * a[fromIndex..fromIndex+k-1], ordered by a Comparator. See partialSort(T[], int).
+     *
+     * @param a         the array (modified in place)
+     * @param fromIndex the index of the first element, inclusive, of the range
+     * @param toIndex   the index of the last element, exclusive, of the range
+     * @param k         how many of the smallest elements to sort into place
+     * @param c         the comparator that determines the order of the array
+     * @throws IllegalArgumentException       if fromIndex > toIndex, k < 0 or k > toIndex - fromIndex
+     * @throws ArrayIndexOutOfBoundsException if fromIndex < 0 or toIndex > a.length
+     */
+    public static <T> void partialSort(T[] a, int fromIndex, int toIndex, int k, Comparator<? super T> c) {
+
+        rangeCheck(a.length, fromIndex, toIndex);
+        checkCount(k, toIndex - fromIndex);
+        if (k == 0) {
+            return;
+        }
+
+        // After selecting, everything before a[fromIndex + k - 1] is no greater than it
+        select(a, fromIndex, toIndex, fromIndex + k - 1, c);
+        shellSort(a, fromIndex, fromIndex + k - 1, c);
+    }
+
+    /*
+     * Returns the k smallest elements of the array in sorted order, without modifying the
+     * array. Keeps a bounded max-heap of the best k elements seen so far, so it takes
+     * O(n log k) time and allocates only the k-element result.
+     *
+     * @param a the array of Comparable objects (not modified)
+     * @param k how many of the smallest elements to return
+     * @return a new array of length k
+     * @throws IllegalArgumentException if k < 0 or k > a.length
+     */
+    public static <T extends Comparable<T>> T[] topK(T[] a, int k) {
+
+        return topK(a, 0, a.length, k, Comparator.naturalOrder());
+    }
+
+    /*
+     * Returns the k smallest elements of the array in sorted order, ordered by a Comparator.
+     * See topK(T[], int).
+     *
+     * @param a the array (not modified)
+     * @param k how many of the smallest elements to return
+     * @param c the comparator that determines the order of the array
+     * @return a new array of length k
+     * @throws IllegalArgumentException if k < 0 or k > a.length
+     */
+    public static <T> T[] topK(T[] a, int k, Comparator<? super T> c) {
+
+        return topK(a, 0, a.length, k, c);
+    }
+
+    /*
+     * Returns the k smallest elements of the range a[fromIndex..toIndex-1] in sorted order,
+     * ordered by a Comparator. See topK(T[], int).
+     *
+     * @param a         the array (not modified)
+     * @param fromIndex the index of the first element, inclusive, of the range
+     * @param toIndex   the index of the last element, exclusive, of the range
+     * @param k         how many of the smallest elements to return
+     * @param c         the comparator that determines the order of the array
+     * @return a new array of length k
+     * @throws IllegalArgumentException       if fromIndex > toIndex, k < 0 or k > toIndex - fromIndex
+     * @throws ArrayIndexOutOfBoundsException if fromIndex < 0 or toIndex > a.length
+     */
+    public static <T> T[] topK(T[] a, int fromIndex, int toIndex, int k, Comparator<? super T> c) {
+
+        rangeCheck(a.length, fromIndex, toIndex);
+        checkCount(k, toIndex - fromIndex);
+
+        // Max-heap of the k smallest elements seen so far; heap[0] is the largest of them
+        T[] heap = Arrays.copyOfRange(a, fromIndex, fromIndex + k);
+        for (int i = k / 2 - 1; i >= 0; i--) {
+            siftDown(heap, i, k, c);
+        }
+
+        for (int i = fromIndex + k; i < toIndex; i++) {
+            if (k > 0 && c.compare(a[i], heap[0]) < 0) {
+                heap[0] = a[i];
+                siftDown(heap, 0, k, c);
+            }
+        }
+
+        // Heapsort the survivors in place: repeatedly move the largest to the end
+        for (int end = k - 1; end > 0; end--) {
+            swap(heap, 0, end);
+            siftDown(heap, 0, end, c);
+        }
+        return heap;
+    }
+
+    private static void checkCount(int k, int length) {
+
+        if (k < 0 || k > length) {
+            throw new IllegalArgumentException("k(" + k + ") outside [0, " + length + "]");
+        }
+    }
+
+    private static <T> int medianOfThree(T[] a, int i, int j, int k, Comparator<? super T> c) {
+
+        if (c.compare(a[i], a[j]) < 0) {
+            if (c.compare(a[j], a[k]) < 0) {
+                return j;
+            }
+            return c.compare(a[i], a[k]) < 0 ? k : i;
+        }
+        if (c.compare(a[i], a[k]) < 0) {
+            return i;
+        }
+        return c.compare(a[j], a[k]) < 0 ? k : j;
+    }
+
+    // Restores the max-heap property of heap[0..size-1] below index i
+    private static <T> void siftDown(T[] heap, int i, int size, Comparator<? super T> c) {
+
+        T x = heap[i];
+        int half = size >>> 1;
+        while (i < half) {
+            int child = 2 * i + 1;
+            if (child + 1 < size && c.compare(heap[child + 1], heap[child]) > 0) {
+                child++;
+            }
+            if (c.compare(heap[child], x) <= 0) {
+                break;
+            }
+            heap[i] = heap[child];
+            i = child;
+        }
+        heap[i] = x;
+    }
+
+    // ==================== PRIMITIVE SPECIALIZATIONS ====================
+    //
+    // The primitive overloads below follow the generic versions line for line but compare
+    // values directly, so numeric callers never box their keys into wrapper objects.
+    // The double[] versions order values like Double.compare: -0.0 sorts before 0.0 and
+    // every NaN sorts after positive infinity. int[] and long[] arrays of at most
+    // SortingNetworks.MAX_BLOCK elements go to its vectorized sorting network when available.
+
+    /*
+     * Sorts an int array using the Gnome Sort algorithm
+     *
+     * @param a the array of ints to sort (modified in place)
+     */
+    public static void gnomeSort(int[] a) {
+
+        // Small blocks go through the branch-free sorting network when it is vectorized
+        if (a.length <= SortingNetworks.MAX_BLOCK && SortingNetworks.isVectorized()) {
+            SortingNetworks.sort(a, 0, a.length);
+            return;
+        }
+
+        int pos = 0;
+
+        while (pos < a.length) {
+            if (pos == 0 || a[pos] >= a[pos - 1]) {
+                pos = pos + 1;
+            } else {
+                swap(a, pos, pos - 1);
+                pos = pos - 1;
+            }
+        }
+    }
+
+    /*
+     * Sorts a long array using the Gnome Sort algorithm
+     *
+     * @param a the array of longs to sort (modified in place)
+     */
+    public static void gnomeSort(long[] a) {
+
+        // Small blocks go through the branch-free sorting network when it is vectorized
+        if (a.length <= SortingNetworks.MAX_BLOCK && SortingNetworks.isVectorized()) {
+            SortingNetworks.sort(a, 0, a.length);
+            return;
+        }
+
+        int pos = 0;
+
+        while (pos < a.length) {
+            if (pos == 0 || a[pos] >= a[pos - 1]) {
+                pos = pos + 1;
+            } else {
+                swap(a, pos, pos - 1);
+                pos = pos - 1;
+            }
+        }
+    }
+
+    /*
+     * Sorts a double array using the Gnome Sort algorithm (Double.compare ordering)
+     *
+     * @param a the array of doubles to sort (modified in place)
+     */
+    public static void gnomeSort(double[] a) {
+
+        int pos = 0;
+
+        while (pos < a.length) {
+            if (pos == 0 || Double.compare(a[pos], a[pos - 1]) >= 0) {
+                pos = pos + 1;
+            } else {
+                swap(a, pos, pos - 1);
+                pos = pos - 1;
+            }
+        }
+    }
+
+    /*
+     * Sorts an int array using the Cocktail Shaker Sort algorithm
+     *
+     * @param a the array of ints to sort (modified in place)
+     */
+    public static void cocktailShakerSort(int[] a) {
+
+        // Small blocks go through the branch-free sorting network when it is vectorized
+        if (a.length <= SortingNetworks.MAX_BLOCK && SortingNetworks.isVectorized()) {
+            SortingNetworks.sort(a, 0, a.length);
+            return;
+        }
+
+        boolean swapped;
+        int begin = 0;
+        int end = a.length - 1;
+
+        do {
+            swapped = false;
+            int lastSwap = begin;
+
+            // Forward pass
+            for (int i = begin; i < end; i++) {
+                if (a[i] > a[i + 1]) {
+                    swap(a, i, i + 1);
+                    swapped = true;
+                    lastSwap = i;
+                }
+            }
+            end = lastSwap;
+
+            if (!swapped) {
+                break;
+            }
+
+            swapped = false;
+            lastSwap = end;
+
+            // Backward pass
+            for (int i = end - 1; i >= begin; i--) {
+                if (a[i] > a[i + 1]) {
+                    swap(a, i, i + 1);
+                    swapped = true;
+                    lastSwap = i;
+                }
+            }
+            begin = lastSwap + 1;
+        } while (swapped);
+    }
+
+    /*
+     * Sorts a long array using the Cocktail Shaker Sort algorithm
+     *
+     * @param a the array of longs to sort (modified in place)
+     */
+    public static void cocktailShakerSort(long[] a) {
+
+        // Small blocks go through the branch-free sorting network when it is vectorized
+        if (a.length <= SortingNetworks.MAX_BLOCK && SortingNetworks.isVectorized()) {
+            SortingNetworks.sort(a, 0, a.length);
+            return;
+        }
+
+        boolean swapped;
+        int begin = 0;
+        int end = a.length - 1;
+
+        do {
+            swapped = false;
+            int lastSwap = begin;
+
+            // Forward pass
+            for (int i = begin; i < end; i++) {
+                if (a[i] > a[i + 1]) {
+                    swap(a, i, i + 1);
+                    swapped = true;
+                    lastSwap = i;
+                }
+            }
+            end = lastSwap;
+
+            if (!swapped) {
+                break;
+            }
+
+            swapped = false;
+            lastSwap = end;
+
+            // Backward pass
+            for (int i = end - 1; i >= begin; i--) {
+                if (a[i] > a[i + 1]) {
+                    swap(a, i, i + 1);
+                    swapped = true;
+                    lastSwap = i;
+                }
+            }
+            begin = lastSwap + 1;
+        } while (swapped);
+    }
+
+    /*
+     * Sorts a double array using the Cocktail Shaker Sort algorithm (Double.compare ordering)
+     *
+     * @param a the array of doubles to sort (modified in place)
+     */
+    public static void cocktailShakerSort(double[] a) {
+
+        boolean swapped;
+        int begin = 0;
+        int end = a.length - 1;
+
+        do {
+            swapped = false;
+            int lastSwap = begin;
+
+            // Forward pass
+            for (int i = begin; i < end; i++) {
+                if (Double.compare(a[i], a[i + 1]) > 0) {
+                    swap(a, i, i + 1);
+                    swapped = true;
+                    lastSwap = i;
+                }
+            }
+            end = lastSwap;
+
+            if (!swapped) {
+                break;
+            }
+
+            swapped = false;
+            lastSwap = end;
+
+            // Backward pass
+            for (int i = end - 1; i >= begin; i--) {
+                if (Double.compare(a[i], a[i + 1]) > 0) {
+                    swap(a, i, i + 1);
+                    swapped = true;
+                    lastSwap = i;
+                }
+            }
+            begin = lastSwap + 1;
+        } while (swapped);
+    }
+
+    /*
+     * Sorts an int array using the Shell Sort algorithm with Ciura gap sequence.
+     *
+     * @param a the array of ints to sort (modified in place)
+     */
+    public static void shellSort(int[] a) {
+
+        shellSort(a, GapSequence.CIURA);
+    }
+
+    /*
+     * Sorts an int array using the Shell Sort algorithm with the given gap sequence.
+     *
+     * @param a        the array of ints to sort (modified in place)
+     * @param sequence the gap sequence to use
+     */
+    public static void shellSort(int[] a, GapSequence sequence) {
+
+        // Small blocks go through the branch-free sorting network when it is vectorized
+        if (a.length <= SortingNetworks.MAX_BLOCK && SortingNetworks.isVectorized()) {
+            SortingNetworks.sort(a, 0, a.length);
+            return;
+        }
+
+        int[] gaps = sequence.gaps();
+        int n = a.length;
+
+        for (int g = sequence.startIndex(n); g >= 0; g--) {
+            int gap = gaps[g];
+
+            for (int i = gap; i < n; i += 1) {
+                int temp = a[i];
+
+                int j;
+                for (j = i; (j >= gap) && (a[j - gap] > temp); j -= gap) {
+                    a[j] = a[j - gap];
+                }
+
+                a[j] = temp;
+            }
+        }
+    }
+
+    /*
+     * Sorts a long array using the Shell Sort algorithm with Ciura gap sequence.
+     *
+     * @param a the array of longs to sort (modified in place)
+     */
+    public static void shellSort(long[] a) {
+
+        shellSort(a, GapSequence.CIURA);
+    }
+
+    /*
+     * Sorts a long array using the Shell Sort algorithm with the given gap sequence.
+     *
+     * @param a        the array of longs to sort (modified in place)
+     * @param sequence the gap sequence to use
+     */
+    public static void shellSort(long[] a, GapSequence sequence) {
+
+        // Small blocks go through the branch-free sorting network when it is vectorized
+        if (a.length <= SortingNetworks.MAX_BLOCK && SortingNetworks.isVectorized()) {
+            SortingNetworks.sort(a, 0, a.length);
+            return;
+        }
+
+        int[] gaps = sequence.gaps();
+        int n = a.length;
+
+        for (int g = sequence.startIndex(n); g >= 0; g--) {
+            int gap = gaps[g];
+
+            for (int i = gap; i < n; i += 1) {
+                long temp = a[i];
+
+                int j;
+                for (j = i; (j >= gap) && (a[j - gap] > temp); j -= gap) {
+                    a[j] = a[j - gap];
+                }
+
+                a[j] = temp;
+            }
+        }
+    }
+
+    /*
+     * Sorts a double array using the Shell Sort algorithm with Ciura gap sequence
+     * (Double.compare ordering).
+     *
+     * @param a the array of doubles to sort (modified in place)
+     */
+    public static void shellSort(double[] a) {
+
+        shellSort(a, GapSequence.CIURA);
+    }
+
+    /*
+     * Sorts a double array using the Shell Sort algorithm with the given gap sequence
+     * (Double.compare ordering).
+     *
+     * @param a        the array of doubles to sort (modified in place)
+     * @param sequence the gap sequence to use
+     */
+    public static void shellSort(double[] a, GapSequence sequence) {
+
+        int[] gaps = sequence.gaps();
+        int n = a.length;
+
+        for (int g = sequence.startIndex(n); g >= 0; g--) {
+            int gap = gaps[g];
+
+            for (int i = gap; i < n; i += 1) {
+                double temp = a[i];
+
+                int j;
+                for (j = i; (j >= gap) && (Double.compare(a[j - gap], temp) > 0); j -= gap) {
+                    a[j] = a[j - gap];
+                }
+
+                a[j] = temp;
+            }
+        }
+    }
+
+    // Checks that fromIndex and toIndex are in range, with the same exceptions as java.util.Arrays
+    static void rangeCheck(int arrayLength, int fromIndex, int toIndex) {
+
+        if (fromIndex > toIndex) {
+            throw new IllegalArgumentException("fromIndex(" + fromIndex + ") > toIndex(" + toIndex + ")");
+        }
+        if (fromIndex < 0) {
+            throw new ArrayIndexOutOfBoundsException(fromIndex);
+        }
+        if (toIndex > arrayLength) {
+            throw new ArrayIndexOutOfBoundsException(toIndex);
+        }
+    }
+
+    private static <T> void swap(T[] data, int index1, int index2) {
+
+        T temp = data[index1];
+        data[index1] = data[index2];
+        data[index2] = temp;
+
+    }
+
+    private static <T> void swap(List<T> list, int index1, int index2) {
+
+        list.set(index1, list.set(index2, list.get(index1)));
+
+    }
+
+    private static void swap(int[] data, int index1, int index2) {
+
+        int temp = data[index1];
+        data[index1] = data[index2];
+        data[index2] = temp;
+
+    }
+
+    private static void swap(long[] data, int index1, int index2) {
+
+        long temp = data[index1];
+        data[index1] = data[index2];
+        data[index2] = temp;
+
+    }
+
+    private static void swap(double[] data, int index1, int index2) {
+
+        double temp = data[index1];
+        data[index1] = data[index2];
+        data[index2] = temp;
+
+    }
+}
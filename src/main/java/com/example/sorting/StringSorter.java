@@ -0,0 +1,214 @@
+package com.example.sorting;
+
+import java.util.Arrays;
+import java.util.Comparator;
+
+/**
+ * Sorts strings by their characters instead of by whole-string comparisons.
+ *
+ * A comparison sort calls compareTo about n log n times, and each call scans again the
+ * prefix that the two strings share. With URL or path keys those shared prefixes are long.
+ * This sorter looks at each character position once per group of strings that agree up to
+ * that position:
+ * <ul>
+ *   <li>MSD radix sort, used while every character at the current position is Latin-1
+ *       (at most 0xFF). It distributes the strings into 256 buckets by that character, plus
+ *       one bucket for strings that end there. For compact strings, charAt reads a single
+ *       byte.</li>
+ *   <li>Multikey quicksort (3-way radix quicksort), used for any group where a character
+ *       above 0xFF turns up. It partitions on a single UTF-16 char around a pivot, so it needs
+ *       no 65536-entry histogram.</li>
+ * </ul>
+ * Groups of at most INSERTION_THRESHOLD strings are finished by SortingUtility.binaryGnomeSort.
+ * A long prefix shared by a whole group is stepped over without moving anything. The result
+ * is exactly String.compareTo order: UTF-16 chars compared as unsigned values, and a proper
+ * prefix before any longer string.
+ *
+ * The sorter keeps its scratch buffers between calls. Instances are not thread-safe; use one
+ * per thread.
+ */
+public final class StringSorter {
+
+    // Groups of at most this many strings are finished by binaryGnomeSort
+    private static final int INSERTION_THRESHOLD = 16;
+
+    // Buckets of the MSD pass: one for "string ended", then one per Latin-1 char
+    private static final int BUCKETS = 257;
+
+    private static final Comparator<String> NATURAL = Comparator.naturalOrder();
+
+    private String[] buffer = new String[0];
+    private int[][] counts = new int[0][];
+
+    /**
+     * Sorts an array of strings into String.compareTo order.
+     *
+     * @param a the array to sort (modified in place)
+     * @throws NullPointerException if a contains null
+     */
+    public void sort(String[] a) {
+        sort(a, 0, a.length);
+    }
+
+    /**
+     * Sorts the range a[fromIndex..toIndex-1] into String.compareTo order.
+     *
+     * @param a         the array to sort (modified in place)
+     * @param fromIndex the index of the first element, inclusive, to be sorted
+     * @param toIndex   the index of the last element, exclusive, to be sorted
+     * @throws IllegalArgumentException       if fromIndex > toIndex
+     * @throws ArrayIndexOutOfBoundsException if fromIndex < 0 or toIndex > a.length
+     * @throws NullPointerException           if the range contains null
+     */
+    public void sort(String[] a, int fromIndex, int toIndex) {
+        SortingUtility.rangeCheck(a.length, fromIndex, toIndex);
+        int n = toIndex - fromIndex;
+        if (buffer.length < n) {
+            buffer = new String[Math.max(n, buffer.length + (buffer.length >> 1))];
+        }
+
+        try {
+            msdSort(a, fromIndex, toIndex, 0, 0);
+        } finally {
+            Arrays.fill(buffer, 0, n, null);
+        }
+    }
+
+    // The char at position d, or -1 if s has only d chars
+    private static int charAt(String s, int d) {
+        return d < s.length() ? s.charAt(d) : -1;
+    }
+
+    /*
+     * MSD radix sort of a[lo..hi-1], whose strings all share their first d chars. Every bucket
+     * but the largest is sorted recursively, and the loop continues with the largest, so the
+     * recursion is at most log2(n) levels deep however long the strings are.
+     */
+    private void msdSort(String[] a, int lo, int hi, int d, int level) {
+        while (hi - lo > INSERTION_THRESHOLD) {
+            int[] count = counts(level);
+            Arrays.fill(count, 0);
+
+            for (int i = lo; i < hi; i++) {
+                int ch = charAt(a[i], d);
+                if (ch > 0xFF) {
+                    multikeySort(a, lo, hi, d);
+                    return;
+                }
+                count[ch + 2]++;
+            }
+
+            // Everything in one bucket: all strings ended (so are equal), or all share char d
+            int n = hi - lo;
+            if (count[1] == n) {
+                return;
+            }
+            if (countsAllInOne(count, n)) {
+                d++;
+                continue;
+            }
+
+            // Bucket b (0 = ended, ch + 1 otherwise) starts at count[b]
+            for (int b = 0; b < BUCKETS; b++) {
+                count[b + 1] += count[b];
+            }
+            for (int i = lo; i < hi; i++) {
+                buffer[count[charAt(a[i], d) + 1]++] = a[i];
+            }
+            System.arraycopy(buffer, 0, a, lo, n);
+
+            // Now bucket b is [count[b - 1], count[b]); bucket 0 holds equal strings
+            int largest = 1;
+            for (int b = 2; b < BUCKETS; b++) {
+                if (count[b] - count[b - 1] > count[largest] - count[largest - 1]) {
+                    largest = b;
+                }
+            }
+            for (int b = 1; b < BUCKETS; b++) {
+                if (b != largest && count[b] - count[b - 1] > 1) {
+                    msdSort(a, lo + count[b - 1], lo + count[b], d + 1, level + 1);
+                }
+            }
+
+            int start = lo + count[largest - 1];
+            hi = lo + count[largest];
+            lo = start;
+            d++;
+        }
+
+        SortingUtility.binaryGnomeSort(a, lo, hi, NATURAL);
+    }
+
+    private static boolean countsAllInOne(int[] count, int n) {
+        for (int b = 2; b <= BUCKETS; b++) {
+            if (count[b] == n) {
+                return true;
+            }
+            if (count[b] != 0) {
+                return false;
+            }
+        }
+        return false;
+    }
+
+    /*
+     * Multikey quicksort of a[lo..hi-1], whose strings all share their first d chars. The
+     * range is split three ways on char d around a median-of-three pivot. The smaller and
+     * larger parts are sorted recursively at the same depth, and the loop continues with the
+     * equal part one char deeper.
+     */
+    private static void multikeySort(String[] a, int lo, int hi, int d) {
+        while (hi - lo > INSERTION_THRESHOLD) {
+            int pivot = medianOfThree(charAt(a[lo], d), charAt(a[(lo + hi) >>> 1], d), charAt(a[hi - 1], d));
+
+            // a[lo..lt-1] < pivot, a[lt..i-1] == pivot, a[gt+1..hi-1] > pivot
+            int lt = lo;
+            int gt = hi - 1;
+            int i = lo;
+            while (i <= gt) {
+                int ch = charAt(a[i], d);
+                if (ch < pivot) {
+                    swap(a, lt++, i++);
+                } else if (ch > pivot) {
+                    swap(a, i, gt--);
+                } else {
+                    i++;
+                }
+            }
+
+            multikeySort(a, lo, lt, d);
+            multikeySort(a, gt + 1, hi, d);
+
+            // Strings that ended at d are all equal
+            if (pivot < 0) {
+                return;
+            }
+            lo = lt;
+            hi = gt + 1;
+            d++;
+        }
+
+        SortingUtility.binaryGnomeSort(a, lo, hi, NATURAL);
+    }
+
+    private static int medianOfThree(int x, int y, int z) {
+        return Math.max(Math.min(x, y), Math.min(Math.max(x, y), z));
+    }
+
+    private static void swap(String[] a, int i, int j) {
+        String temp = a[i];
+        a[i] = a[j];
+        a[j] = temp;
+    }
+
+    // The histogram of one recursion level; deeper levels must not overwrite it
+    private int[] counts(int level) {
+        if (level >= counts.length) {
+            counts = Arrays.copyOf(counts, Math.max(level + 1, 2 * counts.length));
+        }
+        if (counts[level] == null) {
+            counts[level] = new int[BUCKETS + 1];
+        }
+        return counts[level];
+    }
+}
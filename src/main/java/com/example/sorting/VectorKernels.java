@@ -0,0 +1,262 @@
+package com.example.sorting;
+
+import java.util.Arrays;
+
+import jdk.incubator.vector.FloatVector;
+import jdk.incubator.vector.IntVector;
+import jdk.incubator.vector.LongVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorShuffle;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * Bitonic sorting networks for small primitive blocks, built on the Vector API.
+ *
+ * A block of n elements is padded to a power of two N (at least one vector) with the largest
+ * value of its type and sorted by the bitonic network. Every stage of the network
+ * compare-exchanges pairs (i, i ^ j). When j spans at least a whole vector, the pairs are
+ * whole vectors: one lane-wise min and max per pair of vectors. When j is smaller than a
+ * vector, each vector is shuffled against itself (lane l with lane l ^ j) and a mask picks
+ * min or max per lane. Either way every element is compared in every stage, with no
+ * data-dependent branches.
+ *
+ * This class is only loaded when the jdk.incubator.vector module is present (see
+ * SortingNetworks); nothing else may refer to it.
+ */
+final class VectorKernels {
+
+    private static final VectorSpecies<Integer> INT_SPECIES = IntVector.SPECIES_PREFERRED;
+    private static final VectorSpecies<Long> LONG_SPECIES = LongVector.SPECIES_PREFERRED;
+    private static final VectorSpecies<Float> FLOAT_SPECIES = FloatVector.SPECIES_PREFERRED;
+
+    // XOR_SHUFFLES[log2(j)] pairs lane l with lane l ^ j
+    private static final VectorShuffle<Integer>[] INT_XOR_SHUFFLES = xorShuffles(INT_SPECIES);
+    private static final VectorShuffle<Long>[] LONG_XOR_SHUFFLES = xorShuffles(LONG_SPECIES);
+    private static final VectorShuffle<Float>[] FLOAT_XOR_SHUFFLES = xorShuffles(FLOAT_SPECIES);
+
+    // MIN_MASKS[log2(k)][log2(j)] holds the lanes that keep the minimum in stage (k, j), for a
+    // vector that sorts ascending [0] or descending [1]
+    private static final VectorMask<Integer>[][][] INT_MIN_MASKS = minMasks(INT_SPECIES);
+    private static final VectorMask<Long>[][][] LONG_MIN_MASKS = minMasks(LONG_SPECIES);
+    private static final VectorMask<Float>[][][] FLOAT_MIN_MASKS = minMasks(FLOAT_SPECIES);
+
+    // Padded copies of blocks whose length is not already a power of two of at least one vector
+    private static final ThreadLocal<int[]> INT_SCRATCH =
+            ThreadLocal.withInitial(() -> new int[SortingNetworks.MAX_BLOCK]);
+    private static final ThreadLocal<long[]> LONG_SCRATCH =
+            ThreadLocal.withInitial(() -> new long[SortingNetworks.MAX_BLOCK]);
+    private static final ThreadLocal<float[]> FLOAT_SCRATCH =
+            ThreadLocal.withInitial(() -> new float[SortingNetworks.MAX_BLOCK]);
+
+    private VectorKernels() {
+    }
+
+    static void sort(int[] a, int fromIndex, int toIndex) {
+        int n = toIndex - fromIndex;
+        int lanes = INT_SPECIES.length();
+        int size = networkSize(n, lanes);
+
+        if (n == size) {
+            bitonic(a, fromIndex, size);
+            return;
+        }
+
+        int[] block = INT_SCRATCH.get();
+        System.arraycopy(a, fromIndex, block, 0, n);
+        Arrays.fill(block, n, size, Integer.MAX_VALUE);
+        bitonic(block, 0, size);
+        System.arraycopy(block, 0, a, fromIndex, n);
+    }
+
+    static void sort(long[] a, int fromIndex, int toIndex) {
+        int n = toIndex - fromIndex;
+        int lanes = LONG_SPECIES.length();
+        int size = networkSize(n, lanes);
+
+        if (n == size) {
+            bitonic(a, fromIndex, size);
+            return;
+        }
+
+        long[] block = LONG_SCRATCH.get();
+        System.arraycopy(a, fromIndex, block, 0, n);
+        Arrays.fill(block, n, size, Long.MAX_VALUE);
+        bitonic(block, 0, size);
+        System.arraycopy(block, 0, a, fromIndex, n);
+    }
+
+    // The caller guarantees the range holds no NaN; lane-wise min and max order -0.0 before 0.0
+    static void sort(float[] a, int fromIndex, int toIndex) {
+        int n = toIndex - fromIndex;
+        int lanes = FLOAT_SPECIES.length();
+        int size = networkSize(n, lanes);
+
+        if (n == size) {
+            bitonic(a, fromIndex, size);
+            return;
+        }
+
+        float[] block = FLOAT_SCRATCH.get();
+        System.arraycopy(a, fromIndex, block, 0, n);
+        Arrays.fill(block, n, size, Float.POSITIVE_INFINITY);
+        bitonic(block, 0, size);
+        System.arraycopy(block, 0, a, fromIndex, n);
+    }
+
+    private static void bitonic(int[] a, int offset, int size) {
+        int lanes = INT_SPECIES.length();
+
+        for (int k = 2; k <= size; k <<= 1) {
+            for (int j = k >> 1; j > 0; j >>= 1) {
+                if (j >= lanes) {
+                    // Whole vectors against whole vectors; block b sorts ascending if (b & k) == 0
+                    for (int b = 0; b < size; b += lanes) {
+                        if ((b & j) != 0) {
+                            continue;
+                        }
+                        IntVector lo = IntVector.fromArray(INT_SPECIES, a, offset + b);
+                        IntVector hi = IntVector.fromArray(INT_SPECIES, a, offset + b + j);
+                        boolean ascending = (b & k) == 0;
+                        (ascending ? lo.min(hi) : lo.max(hi)).intoArray(a, offset + b);
+                        (ascending ? lo.max(hi) : lo.min(hi)).intoArray(a, offset + b + j);
+                    }
+                } else {
+                    VectorShuffle<Integer> partner = INT_XOR_SHUFFLES[Integer.numberOfTrailingZeros(j)];
+                    VectorMask<Integer>[] masks =
+                            INT_MIN_MASKS[Integer.numberOfTrailingZeros(k)][Integer.numberOfTrailingZeros(j)];
+                    VectorMask<Integer> ascendingMin = masks[0];
+                    VectorMask<Integer> descendingMin = masks[1];
+
+                    for (int b = 0; b < size; b += lanes) {
+                        IntVector v = IntVector.fromArray(INT_SPECIES, a, offset + b);
+                        IntVector p = v.rearrange(partner);
+                        VectorMask<Integer> takeMin = (k < lanes || (b & k) == 0) ? ascendingMin : descendingMin;
+                        v.max(p).blend(v.min(p), takeMin).intoArray(a, offset + b);
+                    }
+                }
+            }
+        }
+    }
+
+    private static void bitonic(long[] a, int offset, int size) {
+        int lanes = LONG_SPECIES.length();
+
+        for (int k = 2; k <= size; k <<= 1) {
+            for (int j = k >> 1; j > 0; j >>= 1) {
+                if (j >= lanes) {
+                    for (int b = 0; b < size; b += lanes) {
+                        if ((b & j) != 0) {
+                            continue;
+                        }
+                        LongVector lo = LongVector.fromArray(LONG_SPECIES, a, offset + b);
+                        LongVector hi = LongVector.fromArray(LONG_SPECIES, a, offset + b + j);
+                        boolean ascending = (b & k) == 0;
+                        (ascending ? lo.min(hi) : lo.max(hi)).intoArray(a, offset + b);
+                        (ascending ? lo.max(hi) : lo.min(hi)).intoArray(a, offset + b + j);
+                    }
+                } else {
+                    VectorShuffle<Long> partner = LONG_XOR_SHUFFLES[Integer.numberOfTrailingZeros(j)];
+                    VectorMask<Long>[] masks =
+                            LONG_MIN_MASKS[Integer.numberOfTrailingZeros(k)][Integer.numberOfTrailingZeros(j)];
+                    VectorMask<Long> ascendingMin = masks[0];
+                    VectorMask<Long> descendingMin = masks[1];
+
+                    for (int b = 0; b < size; b += lanes) {
+                        LongVector v = LongVector.fromArray(LONG_SPECIES, a, offset + b);
+                        LongVector p = v.rearrange(partner);
+                        VectorMask<Long> takeMin = (k < lanes || (b & k) == 0) ? ascendingMin : descendingMin;
+                        v.max(p).blend(v.min(p), takeMin).intoArray(a, offset + b);
+                    }
+                }
+            }
+        }
+    }
+
+    private static void bitonic(float[] a, int offset, int size) {
+        int lanes = FLOAT_SPECIES.length();
+
+        for (int k = 2; k <= size; k <<= 1) {
+            for (int j = k >> 1; j > 0; j >>= 1) {
+                if (j >= lanes) {
+                    for (int b = 0; b < size; b += lanes) {
+                        if ((b & j) != 0) {
+                            continue;
+                        }
+                        FloatVector lo = FloatVector.fromArray(FLOAT_SPECIES, a, offset + b);
+                        FloatVector hi = FloatVector.fromArray(FLOAT_SPECIES, a, offset + b + j);
+                        boolean ascending = (b & k) == 0;
+                        (ascending ? lo.min(hi) : lo.max(hi)).intoArray(a, offset + b);
+                        (ascending ? lo.max(hi) : lo.min(hi)).intoArray(a, offset + b + j);
+                    }
+                } else {
+                    VectorShuffle<Float> partner = FLOAT_XOR_SHUFFLES[Integer.numberOfTrailingZeros(j)];
+                    VectorMask<Float>[] masks =
+                            FLOAT_MIN_MASKS[Integer.numberOfTrailingZeros(k)][Integer.numberOfTrailingZeros(j)];
+                    VectorMask<Float> ascendingMin = masks[0];
+                    VectorMask<Float> descendingMin = masks[1];
+
+                    for (int b = 0; b < size; b += lanes) {
+                        FloatVector v = FloatVector.fromArray(FLOAT_SPECIES, a, offset + b);
+                        FloatVector p = v.rearrange(partner);
+                        VectorMask<Float> takeMin = (k < lanes || (b & k) == 0) ? ascendingMin : descendingMin;
+                        v.max(p).blend(v.min(p), takeMin).intoArray(a, offset + b);
+                    }
+                }
+            }
+        }
+    }
+
+    // The smallest power of two that holds n elements and at least one full vector
+    private static int networkSize(int n, int lanes) {
+        int size = n <= 1 ? 1 : Integer.highestOneBit(n - 1) << 1;
+        return Math.max(size, lanes);
+    }
+
+    /*
+     * Bit l is set if lane l keeps the minimum of itself and lane l ^ j in stage (k, j): the
+     * lower lane of an ascending pair or the upper lane of a descending one. For k below the
+     * vector length the direction changes within the vector; otherwise blockAscending gives
+     * it for the whole vector.
+     */
+    private static long minLanes(int lanes, int k, int j, boolean blockAscending) {
+        long bits = 0;
+        for (int l = 0; l < lanes; l++) {
+            boolean ascending = k < lanes ? (l & k) == 0 : blockAscending;
+            if (((l & j) == 0) == ascending) {
+                bits |= 1L << l;
+            }
+        }
+        return bits;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <E> VectorMask<E>[][][] minMasks(VectorSpecies<E> species) {
+        int lanes = species.length();
+        int maxLevel = Integer.numberOfTrailingZeros(Math.max(SortingNetworks.MAX_BLOCK, lanes));
+        int laneLevels = Integer.numberOfTrailingZeros(lanes);
+
+        VectorMask<E>[][][] masks = (VectorMask<E>[][][]) new VectorMask<?>[maxLevel + 1][laneLevels][];
+        for (int kLevel = 1; kLevel <= maxLevel; kLevel++) {
+            for (int jLevel = 0; jLevel < Math.min(kLevel, laneLevels); jLevel++) {
+                int k = 1 << kLevel;
+                int j = 1 << jLevel;
+                masks[kLevel][jLevel] = (VectorMask<E>[]) new VectorMask<?>[]{
+                        VectorMask.fromLong(species, minLanes(lanes, k, j, true)),
+                        VectorMask.fromLong(species, minLanes(lanes, k, j, false))
+                };
+            }
+        }
+        return masks;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <E> VectorShuffle<E>[] xorShuffles(VectorSpecies<E> species) {
+        int levels = Integer.numberOfTrailingZeros(species.length());
+        VectorShuffle<E>[] shuffles = (VectorShuffle<E>[]) new VectorShuffle<?>[levels];
+        for (int level = 0; level < levels; level++) {
+            int j = 1 << level;
+            shuffles[level] = VectorShuffle.fromOp(species, l -> l ^ j);
+        }
+        return shuffles;
+    }
+}
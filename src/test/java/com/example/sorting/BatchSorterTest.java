@@ -0,0 +1,116 @@
+package com.example.sorting;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import static org.junit.jupiter.api.Assertions.*;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Test class for BatchSorter.
+ */
+public class BatchSorterTest {
+
+    private static List<Integer[]> randomArrays(int count, long seed) {
+        Random random = new Random(seed);
+        List<Integer[]> arrays = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            // Mostly tiny arrays with the occasional large one
+            int length = i % 500 == 0 ? 20_000 : random.nextInt(50);
+            arrays.add(random.ints(length, 0, 1000).boxed().toArray(Integer[]::new));
+        }
+        return arrays;
+    }
+
+    private static void assertAllSorted(List<Integer[]> arrays, Comparator<Integer> c) {
+        for (Integer[] a : arrays) {
+            for (int i = 1; i < a.length; i++) {
+                assertTrue(c.compare(a[i - 1], a[i]) <= 0);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Batch: many small arrays are sorted and grouped into far fewer tasks")
+    public void testSortAll() throws InterruptedException {
+        List<Integer[]> arrays = randomArrays(20_000, 131);
+        long elements = arrays.stream().mapToLong(a -> a.length).sum();
+
+        try (BatchSorter sorter = new BatchSorter()) {
+            BatchSorter.Report report = sorter.sortAll(arrays);
+            assertAllSorted(arrays, Comparator.naturalOrder());
+            assertEquals(arrays.size(), report.arrays());
+            assertEquals(elements, report.elements());
+            assertTrue(report.tasks() < arrays.size() / 10, "tasks: " + report.tasks());
+            assertTrue(report.elapsedNanos() > 0 && report.taskNanos() > 0);
+        }
+    }
+
+    @Test
+    @DisplayName("Batch: async sorting with one worker and one task in flight does not deadlock")
+    public void testSortAllAsyncBackPressure() throws Exception {
+        List<Integer[]> arrays = randomArrays(2000, 137);
+        ExecutorService executor = Executors.newFixedThreadPool(1);
+        try {
+            BatchSorter sorter = new BatchSorter(executor, 16, 1);
+            BatchSorter.Report report = sorter.sortAllAsync(arrays, Comparator.reverseOrder()).get(30, TimeUnit.SECONDS);
+            assertAllSorted(arrays, Comparator.reverseOrder());
+            assertEquals(2000, report.arrays());
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("Batch: a failing comparator surfaces from both the blocking and async calls")
+    public void testFailures() throws InterruptedException {
+        List<String[]> arrays = List.of(new String[]{"b", null, "a"}, new String[]{"d", "c"});
+        Comparator<String> c = Comparator.naturalOrder();
+
+        try (BatchSorter sorter = new BatchSorter()) {
+            assertThrows(NullPointerException.class, () -> sorter.sortAll(arrays, c));
+            ExecutionException e = assertThrows(ExecutionException.class, () -> sorter.sortAllAsync(arrays, c).get());
+            assertInstanceOf(NullPointerException.class, e.getCause());
+
+            BatchSorter.Report empty = sorter.sortAll(new ArrayList<Integer[]>());
+            assertEquals(0, empty.tasks());
+        }
+        assertThrows(IllegalArgumentException.class,
+                () -> new BatchSorter(Executors.newSingleThreadExecutor(), 0, 1));
+        assertArrayEquals(new String[]{"c", "d"}, Arrays.copyOf(arrays.get(1), 2));
+    }
+
+    @Test
+    @DisplayName("Batch: a comparator that throws an Error does not leak the in-flight permit")
+    public void testErrorReleasesPermit() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(1);
+        try {
+            // A single permit: a leaked one would block the next submission forever
+            BatchSorter sorter = new BatchSorter(executor, 16, 1);
+            Comparator<Integer> failing = (x, y) -> {
+                throw new AssertionError("comparator failed");
+            };
+
+            for (int i = 0; i < 3; i++) {
+                ExecutionException e = assertThrows(ExecutionException.class,
+                        () -> sorter.sortAllAsync(randomArrays(1, 139), failing).get(30, TimeUnit.SECONDS));
+                assertInstanceOf(AssertionError.class, e.getCause());
+            }
+
+            List<Integer[]> arrays = randomArrays(200, 149);
+            BatchSorter.Report report = sorter.sortAllAsync(arrays, Comparator.<Integer>naturalOrder())
+                    .get(30, TimeUnit.SECONDS);
+            assertAllSorted(arrays, Comparator.naturalOrder());
+            assertEquals(200, report.arrays());
+        } finally {
+            executor.shutdown();
+        }
+    }
+}
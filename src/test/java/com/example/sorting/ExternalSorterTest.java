@@ -0,0 +1,130 @@
+package com.example.sorting;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.io.TempDir;
+import static org.junit.jupiter.api.Assertions.*;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Stream;
+
+/**
+ * Test class for ExternalSorter.
+ * Small chunk sizes and fan-ins force many runs and several merge passes on tiny files.
+ */
+public class ExternalSorterTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    @DisplayName("Lines: multi-pass merge produces the fully sorted file")
+    public void testSortLinesMultiPass() throws IOException {
+        Random random = new Random(51);
+        List<String> lines = new ArrayList<>();
+        for (int i = 0; i < 2000; i++) {
+            lines.add("key-" + random.nextInt(100_000) + (i % 7 == 0 ? "-é中" : ""));
+        }
+        Path input = tempDir.resolve("in.txt");
+        Path output = tempDir.resolve("out.txt");
+        Path runs = Files.createDirectory(tempDir.resolve("runs"));
+        Files.write(input, lines, StandardCharsets.UTF_8);
+
+        new ExternalSorter().chunkBytes(1024).fanIn(3).tempDirectory(runs).sortLines(input, output);
+
+        List<String> expected = new ArrayList<>(lines);
+        expected.sort(Comparator.naturalOrder());
+        assertEquals(expected, Files.readAllLines(output, StandardCharsets.UTF_8));
+
+        // All temporary runs are cleaned up
+        try (Stream<Path> left = Files.list(runs)) {
+            assertEquals(0, left.count());
+        }
+    }
+
+    @Test
+    @DisplayName("Lines: CRLF endings, a missing final newline and a comparator")
+    public void testSortLinesCrLfAndComparator() throws IOException {
+        Path input = tempDir.resolve("in.txt");
+        Path output = tempDir.resolve("out.txt");
+        Files.writeString(input, "banana\r\napple\r\n\r\ncherry", StandardCharsets.UTF_8);
+
+        new ExternalSorter().chunkBytes(8).sortLines(input, output, Comparator.reverseOrder());
+
+        assertEquals("cherry\nbanana\napple\n\n", Files.readString(output, StandardCharsets.UTF_8));
+    }
+
+    @Test
+    @DisplayName("Lines: empty input gives empty output")
+    public void testSortLinesEmpty() throws IOException {
+        Path input = Files.createFile(tempDir.resolve("in.txt"));
+        Path output = tempDir.resolve("out.txt");
+        new ExternalSorter().sortLines(input, output);
+        assertEquals(0, Files.size(output));
+    }
+
+    @Test
+    @DisplayName("Lines: a line longer than the chunk is rejected")
+    public void testSortLinesLineTooLong() throws IOException {
+        Path input = tempDir.resolve("in.txt");
+        Files.writeString(input, "short\n" + "x".repeat(100) + "\nend\n");
+        assertThrows(IOException.class,
+                () -> new ExternalSorter().chunkBytes(16).sortLines(input, tempDir.resolve("out.txt")));
+    }
+
+    @Test
+    @DisplayName("Fixed width: records are ordered by their unsigned key bytes")
+    public void testSortFixedWidth() throws IOException {
+        int recordLength = 12;
+        int count = 1000;
+        ByteBuffer data = ByteBuffer.allocate(recordLength * count);
+        Random random = new Random(53);
+        for (int i = 0; i < count; i++) {
+            // 4 byte sequence number, 4 byte key (may be negative as a signed int), 4 byte payload
+            data.putInt(i).putInt(random.nextInt()).putInt(~i);
+        }
+        Path input = tempDir.resolve("in.bin");
+        Path output = tempDir.resolve("out.bin");
+        Files.write(input, data.array());
+
+        List<long[]> progress = new ArrayList<>();
+        new ExternalSorter().chunkBytes(100).fanIn(4)
+                .progressListener((phase, done, total) -> progress.add(new long[]{phase.ordinal(), done, total}))
+                .sortFixedWidth(input, output, recordLength, 4, 4);
+
+        ByteBuffer sorted = ByteBuffer.wrap(Files.readAllBytes(output));
+        assertEquals(recordLength * count, sorted.remaining());
+        long previousKey = -1;
+        for (int i = 0; i < count; i++) {
+            int sequence = sorted.getInt();
+            long key = Integer.toUnsignedLong(sorted.getInt());
+            assertEquals(~sequence, sorted.getInt(), "record split apart");
+            assertTrue(key >= previousKey);
+            previousKey = key;
+        }
+
+        // Split progress ends at the file size, the final merge at the record count
+        long[] lastSplit = progress.stream().filter(p -> p[0] == 0).reduce((x, y) -> y).orElseThrow();
+        long[] lastMerge = progress.get(progress.size() - 1);
+        assertEquals(recordLength * count, lastSplit[1]);
+        assertEquals(count, lastMerge[1]);
+    }
+
+    @Test
+    @DisplayName("Fixed width: a truncated record is rejected")
+    public void testSortFixedWidthPartialRecord() throws IOException {
+        Path input = tempDir.resolve("in.bin");
+        Files.write(input, new byte[10]);
+        assertThrows(IOException.class,
+                () -> new ExternalSorter().sortFixedWidth(input, tempDir.resolve("out.bin"), 4, 0, 4));
+        assertThrows(IllegalArgumentException.class,
+                () -> new ExternalSorter().sortFixedWidth(input, tempDir.resolve("out.bin"), 4, 2, 4));
+    }
+}
@@ -0,0 +1,70 @@
+package com.example.sorting;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import static org.junit.jupiter.api.Assertions.*;
+import java.util.Arrays;
+import java.util.Random;
+
+/**
+ * Test class for the Shell Sort gap sequences in GapSequence.
+ */
+public class GapSequenceTest {
+
+    @Test
+    @DisplayName("Ciura: classic gaps followed by the 2.25 extension")
+    public void testCiuraPrefix() {
+        int[] gaps = GapSequence.CIURA.gapsFor(5000);
+        assertArrayEquals(new int[]{3548, 1577, 701, 301, 132, 57, 23, 10, 4, 1}, gaps);
+    }
+
+    @Test
+    @DisplayName("Tokuda, Sedgewick and Pratt: known prefixes")
+    public void testKnownPrefixes() {
+        assertArrayEquals(new int[]{525, 233, 103, 46, 20, 9, 4, 1}, GapSequence.TOKUDA.gapsFor(1000));
+        assertArrayEquals(new int[]{281, 77, 23, 8, 1}, GapSequence.SEDGEWICK.gapsFor(1000));
+        assertArrayEquals(new int[]{18, 16, 12, 9, 8, 6, 4, 3, 2, 1}, GapSequence.PRATT.gapsFor(20));
+    }
+
+    @ParameterizedTest
+    @EnumSource(GapSequence.class)
+    @DisplayName("Every sequence is strictly ascending from 1 and reaches large array sizes")
+    public void testSequencesAreWellFormed(GapSequence sequence) {
+        int[] gaps = sequence.gaps();
+        assertEquals(1, gaps[0]);
+        for (int i = 1; i < gaps.length; i++) {
+            assertTrue(gaps[i] > gaps[i - 1], sequence + " not ascending at " + i);
+        }
+
+        // A 5M element batch must not start with a tiny gap
+        assertTrue(sequence.gapsFor(5_000_000)[0] > 5_000_000 / 10, sequence.toString());
+    }
+
+    @Test
+    @DisplayName("Gaps are always smaller than the array length")
+    public void testGapsForSmallArrays() {
+        assertArrayEquals(new int[]{}, GapSequence.CIURA.gapsFor(0));
+        assertArrayEquals(new int[]{}, GapSequence.CIURA.gapsFor(1));
+        assertArrayEquals(new int[]{1}, GapSequence.CIURA.gapsFor(4));
+        assertArrayEquals(new int[]{4, 1}, GapSequence.CIURA.gapsFor(5));
+        assertArrayEquals(new int[]{701, 301, 132, 57, 23, 10, 4, 1}, GapSequence.CIURA.gapsFor(702));
+    }
+
+    @ParameterizedTest
+    @EnumSource(GapSequence.class)
+    @DisplayName("Shell Sort sorts correctly with every sequence")
+    public void testShellSortWithEverySequence(GapSequence sequence) {
+        int[] primitive = new Random(17).ints(50_000, 0, 50000).toArray();
+        Integer[] boxed = Arrays.stream(primitive).boxed().toArray(Integer[]::new);
+        int[] expected = primitive.clone();
+        Arrays.sort(expected);
+
+        SortingUtility.shellSort(primitive, sequence);
+        SortingUtility.shellSort(boxed, sequence);
+
+        assertArrayEquals(expected, primitive);
+        assertArrayEquals(Arrays.stream(expected).boxed().toArray(Integer[]::new), boxed);
+    }
+}
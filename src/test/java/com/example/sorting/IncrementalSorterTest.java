@@ -0,0 +1,148 @@
+package com.example.sorting;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import static org.junit.jupiter.api.Assertions.*;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+/**
+ * Test class for IncrementalSorter.
+ */
+public class IncrementalSorterTest {
+
+    @Test
+    @DisplayName("Incremental sort: random input of many buffer sizes comes out sorted")
+    public void testRandomInput() {
+        Random random = new Random(71);
+        for (int n : new int[]{0, 1, 63, 64, 65, 1000, 12_345}) {
+            Integer[] values = random.ints(n, -500, 500).boxed().toArray(Integer[]::new);
+
+            IncrementalSorter<Integer> sorter = IncrementalSorter.naturalOrder();
+            sorter.addAll(Arrays.asList(values));
+
+            Integer[] expected = values.clone();
+            Arrays.sort(expected);
+            assertEquals(n, sorter.size());
+            assertEquals(Arrays.asList(expected), sorter.toList(), "n = " + n);
+        }
+    }
+
+    @Test
+    @DisplayName("Incremental sort: equal keys keep their arrival order")
+    public void testStability() {
+        List<int[]> pairs = new ArrayList<>();
+        Random random = new Random(73);
+        for (int i = 0; i < 5000; i++) {
+            pairs.add(new int[]{random.nextInt(20), i});
+        }
+
+        IncrementalSorter<int[]> sorter = new IncrementalSorter<>(Comparator.comparingInt(p -> p[0]), 16);
+        sorter.addAll(pairs);
+
+        int[] previous = null;
+        for (int[] pair : sorter) {
+            if (previous != null) {
+                assertTrue(previous[0] < pair[0] || (previous[0] == pair[0] && previous[1] < pair[1]));
+            }
+            previous = pair;
+        }
+    }
+
+    @Test
+    @DisplayName("Incremental sort: iterating keeps the elements, adding invalidates the iterator")
+    public void testIterationAndModification() {
+        IncrementalSorter<String> sorter = new IncrementalSorter<>(Comparator.naturalOrder(), 4);
+        sorter.addAll(List.of("pear", "apple", "fig", "kiwi", "banana", "cherry"));
+
+        assertEquals(List.of("apple", "banana", "cherry", "fig", "kiwi", "pear"), sorter.stream().toList());
+        assertEquals("apple", sorter.iterator().next());
+
+        Iterator<String> iterator = sorter.iterator();
+        iterator.next();
+        sorter.add("date");
+        assertThrows(ConcurrentModificationException.class, iterator::next);
+        assertEquals(List.of("apple", "banana", "cherry", "date", "fig", "kiwi", "pear"), sorter.toList());
+
+        assertThrows(IllegalArgumentException.class, () -> new IncrementalSorter<String>(Comparator.naturalOrder(), 0));
+    }
+
+    @Test
+    @DisplayName("Incremental sort: draining another sorter moves its elements, draining itself is rejected")
+    public void testAddAllSorter() {
+        IncrementalSorter<Integer> sorter = new IncrementalSorter<>(Comparator.naturalOrder(), 4);
+        sorter.addAll(List.of(5, 3, 9, 1, 7));
+        IncrementalSorter<Integer> other = new IncrementalSorter<>(Comparator.naturalOrder(), 4);
+        other.addAll(List.of(8, 2, 6));
+
+        sorter.addAll(other);
+        assertEquals(List.of(1, 2, 3, 5, 6, 7, 8, 9), sorter.toList());
+        assertEquals(0, other.size());
+
+        assertThrows(IllegalArgumentException.class, () -> sorter.addAll(sorter));
+        assertEquals(8, sorter.size());
+        assertEquals(List.of(1, 2, 3, 5, 6, 7, 8, 9), sorter.toList());
+    }
+
+    @Test
+    @DisplayName("Incremental sort: merging sorters leaves about as few runs as adding everything to one")
+    public void testAddAllKeepsFewRuns() {
+        Random random = new Random(151);
+        int[] firstValues = random.ints(100_000).toArray();
+        int[] secondValues = random.ints(70_000).toArray();
+
+        IncrementalSorter<Integer> first = IncrementalSorter.naturalOrder();
+        IncrementalSorter<Integer> second = IncrementalSorter.naturalOrder();
+        IncrementalSorter<Integer> reference = IncrementalSorter.naturalOrder();
+        Arrays.stream(firstValues).forEach(first::add);
+        Arrays.stream(secondValues).forEach(second::add);
+        IntStream.concat(Arrays.stream(firstValues), Arrays.stream(secondValues)).forEach(reference::add);
+
+        first.addAll(second);
+        assertEquals(170_000, first.size());
+        assertTrue(first.runCount() <= reference.runCount() + 1,
+                "runs: " + first.runCount() + ", single sorter: " + reference.runCount());
+
+        // Many sorters with unrelated partial runs, as a parallel collector combines them
+        IncrementalSorter<Integer> combined = IncrementalSorter.naturalOrder();
+        IncrementalSorter<Integer> single = IncrementalSorter.naturalOrder();
+        List<Integer> all = new ArrayList<>();
+        for (int part = 0; part < 500; part++) {
+            IncrementalSorter<Integer> piece = IncrementalSorter.naturalOrder();
+            random.ints(random.nextInt(1, 200)).forEach(v -> {
+                piece.add(v);
+                single.add(v);
+                all.add(v);
+            });
+            combined.addAll(piece);
+        }
+        assertTrue(combined.runCount() <= single.runCount() + 1,
+                "runs: " + combined.runCount() + ", single sorter: " + single.runCount());
+
+        all.sort(Comparator.naturalOrder());
+        assertEquals(all, combined.toList());
+    }
+
+    @Test
+    @DisplayName("Collectors: sequential and parallel streams match a full sort")
+    public void testCollectors() {
+        List<Integer> values = new Random(79).ints(20_000, 0, 1000).boxed().collect(Collectors.toList());
+        List<Integer> expected = new ArrayList<>(values);
+        expected.sort(Comparator.reverseOrder());
+
+        assertEquals(expected, values.stream().collect(IncrementalSorter.toSortedList(Comparator.reverseOrder())));
+        assertEquals(expected, values.parallelStream().collect(IncrementalSorter.toSortedList(Comparator.reverseOrder())));
+
+        Stream<Integer> sorted = IntStream.range(0, 1000).map(i -> 999 - i).boxed()
+                .collect(IncrementalSorter.toSortedStream(Comparator.naturalOrder()));
+        assertEquals(List.of(0, 1, 2), sorted.limit(3).toList());
+    }
+}
@@ -0,0 +1,130 @@
+package com.example.sorting;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.io.TempDir;
+import static org.junit.jupiter.api.Assertions.*;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Test class for the instrumented sorts and SortMetrics.
+ */
+public class InstrumentedSortingTest {
+
+    @Test
+    @DisplayName("Instrumented sorts produce the same result as SortingUtility")
+    public void testSameResultAsSortingUtility() {
+        Integer[] arr = new Random(41).ints(3000, 0, 50000).boxed().toArray(Integer[]::new);
+        Integer[] expected = arr.clone();
+        Arrays.sort(expected);
+
+        Integer[] copy1 = arr.clone();
+        Integer[] copy2 = arr.clone();
+        Integer[] copy3 = arr.clone();
+        InstrumentedSorting.gnomeSort(copy1, new SortMetrics());
+        InstrumentedSorting.cocktailShakerSort(copy2, new SortMetrics());
+        InstrumentedSorting.shellSort(copy3, new SortMetrics());
+
+        assertArrayEquals(expected, copy1);
+        assertArrayEquals(expected, copy2);
+        assertArrayEquals(expected, copy3);
+    }
+
+    @Test
+    @DisplayName("Gnome Sort: exact counts on a small input")
+    public void testGnomeSortCounts() {
+        SortMetrics metrics = new SortMetrics();
+        InstrumentedSorting.gnomeSort(new Integer[]{2, 1}, metrics);
+
+        // Compare (1, 2), swap, step back to 0, compare again
+        assertEquals(2, metrics.getComparisons());
+        assertEquals(2, metrics.getMoves());
+        assertEquals(0, metrics.getPasses());
+        assertEquals(1, metrics.getCalls());
+    }
+
+    @Test
+    @DisplayName("Cocktail Shaker Sort: one pass and no moves on sorted input")
+    public void testCocktailShakerSortSortedCounts() {
+        SortMetrics metrics = new SortMetrics();
+        InstrumentedSorting.cocktailShakerSort(new Integer[]{1, 2, 3, 4, 5}, metrics);
+        assertEquals(4, metrics.getComparisons());
+        assertEquals(0, metrics.getMoves());
+        assertEquals(1, metrics.getPasses());
+    }
+
+    @Test
+    @DisplayName("Shell Sort: one pass per gap below the length")
+    public void testShellSortPasses() {
+        SortMetrics metrics = new SortMetrics();
+        Integer[] arr = new Integer[1000];
+        Arrays.fill(arr, 7);
+        InstrumentedSorting.shellSort(arr, Comparator.naturalOrder(), metrics);
+
+        // Gaps 701, 301, 132, 57, 23, 10, 4, 1; on equal keys each element is compared once
+        assertEquals(8, metrics.getPasses());
+        long expectedComparisons = 0;
+        for (int gap : GapSequence.CIURA.gapsFor(1000)) {
+            expectedComparisons += 1000 - gap;
+        }
+        assertEquals(expectedComparisons, metrics.getComparisons());
+        assertEquals(expectedComparisons, metrics.getMoves());
+    }
+
+    @Test
+    @DisplayName("Metrics accumulate across calls, notify the listener and reset")
+    public void testMetricsAccumulateAndNotify() {
+        List<String> completed = new ArrayList<>();
+        SortMetrics metrics = new SortMetrics((algorithm, length, m) -> completed.add(algorithm + ":" + length));
+
+        InstrumentedSorting.gnomeSort(new Integer[]{1, 2, 3}, metrics);
+        InstrumentedSorting.shellSort(new Integer[]{3, 2, 1, 0}, metrics);
+
+        assertEquals(List.of("gnomeSort:3", "shellSort:4"), completed);
+        assertEquals(2, metrics.getCalls());
+        assertTrue(metrics.getComparisons() > 2);
+        assertTrue(metrics.getElapsedNanos() >= 0);
+
+        metrics.reset();
+        assertEquals(0, metrics.getComparisons());
+        assertEquals(0, metrics.getMoves());
+        assertEquals(0, metrics.getPasses());
+        assertEquals(0, metrics.getCalls());
+    }
+
+    @Test
+    @DisplayName("JFR: sorts above the threshold emit a Sort event")
+    public void testJfrEventAboveThreshold(@TempDir Path tempDir) throws Exception {
+        int previous = InstrumentedSorting.getJfrThreshold();
+        Path file = tempDir.resolve("sort.jfr");
+        InstrumentedSorting.setJfrThreshold(1000);
+        try (Recording recording = new Recording()) {
+            recording.enable("com.example.sorting.Sort");
+            recording.start();
+
+            InstrumentedSorting.shellSort(new Random(43).ints(2000).boxed().toArray(Integer[]::new), new SortMetrics());
+            InstrumentedSorting.shellSort(new Integer[]{2, 1}, new SortMetrics());
+
+            recording.stop();
+            recording.dump(file);
+        } finally {
+            InstrumentedSorting.setJfrThreshold(previous);
+        }
+
+        List<RecordedEvent> events = RecordingFile.readAllEvents(file).stream()
+                .filter(e -> e.getEventType().getName().equals("com.example.sorting.Sort"))
+                .toList();
+        assertEquals(1, events.size());
+        assertEquals("shellSort", events.get(0).getString("algorithm"));
+        assertEquals(2000, events.get(0).getInt("length"));
+        assertTrue(events.get(0).getLong("comparisons") > 0);
+    }
+}
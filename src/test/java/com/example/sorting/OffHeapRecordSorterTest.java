@@ -0,0 +1,138 @@
+package com.example.sorting;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.io.TempDir;
+import static org.junit.jupiter.api.Assertions.*;
+import java.io.IOException;
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Random;
+
+/**
+ * Test class for OffHeapRecordSorter.
+ * Records are 16 bytes: an 8 byte key followed by an 8 byte payload holding ~key, so a record
+ * that was torn apart while being moved is detected.
+ */
+public class OffHeapRecordSorterTest {
+
+    private static final int RECORD_SIZE = 16;
+    private static final ValueLayout.OfLong NATIVE_LONG = ValueLayout.JAVA_LONG_UNALIGNED;
+
+    private static MemorySegment fill(Arena arena, long[] keys) {
+        MemorySegment records = arena.allocate((long) keys.length * RECORD_SIZE);
+        for (int i = 0; i < keys.length; i++) {
+            records.set(NATIVE_LONG, (long) i * RECORD_SIZE, keys[i]);
+            records.set(NATIVE_LONG, (long) i * RECORD_SIZE + 8, ~keys[i]);
+        }
+        return records;
+    }
+
+    private static void assertSortedRecords(long[] keys, MemorySegment records) {
+        long[] expected = keys.clone();
+        Arrays.sort(expected);
+        for (int i = 0; i < expected.length; i++) {
+            long key = records.get(NATIVE_LONG, (long) i * RECORD_SIZE);
+            assertEquals(expected[i], key, "key at record " + i);
+            assertEquals(~key, records.get(NATIVE_LONG, (long) i * RECORD_SIZE + 8), "payload at record " + i);
+        }
+    }
+
+    @Test
+    @DisplayName("Shell Sort: arena-allocated records sorted by a signed long key")
+    public void testShellSortLongKey() {
+        long[] keys = new Random(61).longs(20_000).toArray();
+        try (Arena arena = Arena.ofConfined()) {
+            MemorySegment records = fill(arena, keys);
+            OffHeapRecordSorter.byLong(RECORD_SIZE, 0, ByteOrder.nativeOrder()).shellSort(records);
+            assertSortedRecords(keys, records);
+        }
+    }
+
+    @Test
+    @DisplayName("Insertion Sort: small segment, every gap sequence gives the same order")
+    public void testInsertionAndGapSequences() {
+        long[] keys = new Random(67).longs(500, -1000, 1000).toArray();
+        try (Arena arena = Arena.ofConfined()) {
+            OffHeapRecordSorter sorter = OffHeapRecordSorter.byLong(RECORD_SIZE, 0, ByteOrder.nativeOrder());
+
+            MemorySegment records = fill(arena, keys);
+            sorter.insertionSort(records);
+            assertSortedRecords(keys, records);
+
+            for (GapSequence sequence : GapSequence.values()) {
+                records = fill(arena, keys);
+                sorter.shellSort(records, sequence);
+                assertSortedRecords(keys, records);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Unsigned bytes and int keys: big-endian keys sort in unsigned and signed order")
+    public void testUnsignedBytesAndIntKeys() {
+        int[] values = {5, -1, 0, Integer.MIN_VALUE, 42, Integer.MAX_VALUE, -7};
+        try (Arena arena = Arena.ofConfined()) {
+            MemorySegment records = arena.allocate(values.length * 4L);
+            ValueLayout.OfInt bigEndian = ValueLayout.JAVA_INT_UNALIGNED.withOrder(ByteOrder.BIG_ENDIAN);
+            for (int i = 0; i < values.length; i++) {
+                records.set(bigEndian, i * 4L, values[i]);
+            }
+
+            OffHeapRecordSorter.byUnsignedBytes(4, 0, 4).shellSort(records);
+            long previous = -1;
+            for (int i = 0; i < values.length; i++) {
+                long unsigned = Integer.toUnsignedLong(records.get(bigEndian, i * 4L));
+                assertTrue(unsigned >= previous);
+                previous = unsigned;
+            }
+
+            OffHeapRecordSorter.byInt(4, 0, ByteOrder.BIG_ENDIAN).shellSort(records);
+            int[] expected = values.clone();
+            Arrays.sort(expected);
+            for (int i = 0; i < values.length; i++) {
+                assertEquals(expected[i], records.get(bigEndian, i * 4L));
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Mapped file: records are sorted in place on disk")
+    public void testSortFile(@TempDir Path tempDir) throws IOException {
+        long[] keys = new Random(71).longs(5000).toArray();
+        ByteBuffer data = ByteBuffer.allocate(keys.length * RECORD_SIZE).order(ByteOrder.BIG_ENDIAN);
+        for (long key : keys) {
+            data.putLong(key).putLong(~key);
+        }
+        Path file = tempDir.resolve("records.bin");
+        Files.write(file, data.array());
+
+        OffHeapRecordSorter.byLong(RECORD_SIZE, 0, ByteOrder.BIG_ENDIAN).sortFile(file);
+
+        ByteBuffer sorted = ByteBuffer.wrap(Files.readAllBytes(file)).order(ByteOrder.BIG_ENDIAN);
+        long[] expected = keys.clone();
+        Arrays.sort(expected);
+        for (long key : expected) {
+            assertEquals(key, sorted.getLong());
+            assertEquals(~key, sorted.getLong());
+        }
+    }
+
+    @Test
+    @DisplayName("Invalid layouts are rejected")
+    public void testInvalidLayouts() {
+        assertThrows(IllegalArgumentException.class, () -> OffHeapRecordSorter.byLong(4, 0, ByteOrder.BIG_ENDIAN));
+        assertThrows(IllegalArgumentException.class, () -> OffHeapRecordSorter.byUnsignedBytes(8, 6, 4));
+        try (Arena arena = Arena.ofConfined()) {
+            MemorySegment partial = arena.allocate(20);
+            assertThrows(IllegalArgumentException.class,
+                    () -> OffHeapRecordSorter.byInt(8, 0, ByteOrder.BIG_ENDIAN).shellSort(partial));
+        }
+    }
+}
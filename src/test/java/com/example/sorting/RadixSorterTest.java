@@ -0,0 +1,129 @@
+package com.example.sorting;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import static org.junit.jupiter.api.Assertions.*;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Random;
+
+/**
+ * Test class for RadixSorter.
+ */
+public class RadixSorterTest {
+
+    @ParameterizedTest
+    @ValueSource(ints = {8, 11, 16})
+    @DisplayName("Radix: full-range int and long input matches Arrays.sort for every digit width")
+    public void testFullRange(int digitBits) {
+        RadixSorter sorter = new RadixSorter(digitBits);
+        Random random = new Random(107);
+
+        // One sorter reused across sizes, including ones smaller than the last
+        for (int n : new int[]{0, 1, 2, 1000, 50_000, 10}) {
+            int[] ints = random.ints(n).toArray();
+            if (n > 2) {
+                ints[0] = Integer.MIN_VALUE;
+                ints[1] = Integer.MAX_VALUE;
+            }
+            int[] expectedInts = ints.clone();
+            Arrays.sort(expectedInts);
+            sorter.sort(ints);
+            assertArrayEquals(expectedInts, ints, "n = " + n);
+
+            long[] longs = random.longs(n).toArray();
+            if (n > 2) {
+                longs[0] = Long.MAX_VALUE;
+                longs[1] = Long.MIN_VALUE;
+            }
+            long[] expectedLongs = longs.clone();
+            Arrays.sort(expectedLongs);
+            sorter.sort(longs);
+            assertArrayEquals(expectedLongs, longs, "n = " + n);
+        }
+    }
+
+    @Test
+    @DisplayName("Counting: small key ranges, including negative and constant keys")
+    public void testCountingRange() {
+        RadixSorter sorter = new RadixSorter();
+
+        int[] driverLike = new Random(109).ints(100_000, 0, 50_000).toArray();
+        int[] expected = driverLike.clone();
+        Arrays.sort(expected);
+        sorter.sort(driverLike);
+        assertArrayEquals(expected, driverLike);
+
+        long[] negative = {-3, 5, -3, 0, Long.MIN_VALUE + 1, 2};
+        sorter.sort(negative);
+        assertArrayEquals(new long[]{Long.MIN_VALUE + 1, -3, -3, 0, 2, 5}, negative);
+
+        int[] constant = new int[1000];
+        Arrays.fill(constant, 7);
+        sorter.sort(constant);
+        assertTrue(Arrays.stream(constant).allMatch(x -> x == 7));
+
+        // Keys that differ only in high bits skip the constant low digits
+        int[] highBits = new Random(113).ints(5000, 0, 64).map(x -> x << 24).toArray();
+        int[] expectedHigh = highBits.clone();
+        Arrays.sort(expectedHigh);
+        sorter.sort(highBits);
+        assertArrayEquals(expectedHigh, highBits);
+    }
+
+    @Test
+    @DisplayName("Keyed: objects sort stably by int and long keys extracted once")
+    public void testKeyedStability() {
+        RadixSorter sorter = new RadixSorter(8);
+        Random random = new Random(127);
+
+        for (int bound : new int[]{50, Integer.MAX_VALUE}) {
+            int[][] pairs = new int[20_000][];
+            for (int i = 0; i < pairs.length; i++) {
+                pairs[i] = new int[]{random.nextInt(bound) - bound / 2, i};
+            }
+            int[][] expected = pairs.clone();
+            Arrays.sort(expected, Comparator.comparingInt(p -> p[0]));
+
+            int[][] byInt = pairs.clone();
+            int[] calls = {0};
+            sorter.sortByIntKey(byInt, p -> {
+                calls[0]++;
+                return p[0];
+            });
+            assertArrayEquals(expected, byInt);
+            assertEquals(pairs.length, calls[0]);
+
+            int[][] byLong = pairs.clone();
+            sorter.sortByLongKey(byLong, p -> (long) p[0] * 1_000_003L);
+            assertArrayEquals(expected, byLong);
+        }
+    }
+
+    @Test
+    @DisplayName("Radix: only 8, 11 and 16 bit digits are accepted")
+    public void testDigitBits() {
+        assertEquals(RadixSorter.DEFAULT_DIGIT_BITS, new RadixSorter().digitBits());
+        assertThrows(IllegalArgumentException.class, () -> new RadixSorter(9));
+    }
+
+    @Test
+    @DisplayName("Radix: counting sort is only chosen when its histogram fits in an array")
+    public void testCountingSortRangeLimit() {
+        assertTrue(RadixSorter.useCountingSort(3999, 1000));
+        assertFalse(RadixSorter.useCountingSort(4000, 1000));
+
+        // 4n exceeds the largest array for n > 2^29, so large spans must go to LSD radix
+        int huge = (1 << 29) + 1;
+        assertTrue(RadixSorter.useCountingSort(1 << 30, huge));
+        assertFalse(RadixSorter.useCountingSort(1L << 31, huge));
+        assertFalse(RadixSorter.useCountingSort(Integer.MAX_VALUE - 8, Integer.MAX_VALUE));
+        assertTrue(RadixSorter.useCountingSort(Integer.MAX_VALUE - 9, Integer.MAX_VALUE));
+
+        // Spans are unsigned: a full-width int or long span is never counting sorted
+        assertFalse(RadixSorter.useCountingSort(Integer.toUnsignedLong(-1), Integer.MAX_VALUE));
+        assertFalse(RadixSorter.useCountingSort(-1L, Integer.MAX_VALUE));
+    }
+}
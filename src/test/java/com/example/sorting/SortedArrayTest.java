@@ -0,0 +1,106 @@
+package com.example.sorting;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import static org.junit.jupiter.api.Assertions.*;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.Random;
+
+/**
+ * Test class for SortedArray.
+ */
+public class SortedArrayTest {
+
+    private static void assertMatchesFullSort(SortedArray<Integer> sorted, Integer[] shadow) {
+        Integer[] expected = shadow.clone();
+        Arrays.sort(expected);
+        assertArrayEquals(expected, sorted.toArray(Integer[]::new));
+        assertEquals(0, sorted.dirtyCount());
+    }
+
+    @Test
+    @DisplayName("Sorted array: random sets and appends repair to a full sort, below and above the dirty ratio")
+    public void testRandomUpdates() {
+        Random random = new Random(83);
+        for (double ratio : new double[]{0.0, 0.05, 1.0}) {
+            Integer[] initial = random.ints(2000, 0, 1000).boxed().toArray(Integer[]::new);
+            SortedArray<Integer> sorted = SortedArray.of(initial, Comparator.naturalOrder());
+            SortedArray<Integer> limited = new SortedArray<>(Comparator.naturalOrder(), ratio);
+            for (Integer value : initial) {
+                limited.append(value);
+            }
+
+            for (int round = 0; round < 50; round++) {
+                for (SortedArray<Integer> array : Arrays.asList(sorted, limited)) {
+                    Integer[] shadow = array.toArray(Integer[]::new);
+                    int updates = random.nextInt(1, 40);
+                    for (int u = 0; u < updates; u++) {
+                        if (random.nextInt(4) == 0) {
+                            int value = random.nextInt(-100, 1100);
+                            array.append(value);
+                            shadow = Arrays.copyOf(shadow, shadow.length + 1);
+                            shadow[shadow.length - 1] = value;
+                        } else {
+                            int index = random.nextInt(shadow.length);
+                            int value = random.nextInt(-100, 1100);
+                            array.set(index, value);
+                            shadow[index] = value;
+                        }
+                    }
+                    assertMatchesFullSort(array, shadow);
+                }
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Sorted array: in-order writes stay clean, equal keys keep their order")
+    public void testCleanWritesAndStability() {
+        SortedArray<int[]> pairs = new SortedArray<>(Comparator.comparingInt(p -> p[0]));
+        for (int i = 0; i < 100; i++) {
+            pairs.append(new int[]{i / 10, i});
+        }
+        assertEquals(0, pairs.dirtyCount());
+
+        pairs.set(55, new int[]{5, 55});
+        assertEquals(0, pairs.dirtyCount());
+
+        pairs.set(0, new int[]{5, 100});
+        pairs.append(new int[]{5, 101});
+        assertEquals(2, pairs.dirtyCount());
+
+        int[] previous = null;
+        for (int[] pair : pairs) {
+            if (previous != null) {
+                assertTrue(previous[0] < pair[0] || (previous[0] == pair[0] && previous[1] < pair[1]));
+            }
+            previous = pair;
+        }
+        assertEquals(101, pairs.get(60)[1]);
+    }
+
+    @Test
+    @DisplayName("Sorted array: lookups, iteration and argument checks")
+    public void testReadsAndValidation() {
+        SortedArray<String> words = SortedArray.of(new String[]{"pear", "apple", "fig"}, Comparator.naturalOrder());
+        words.append("banana");
+        words.set(0, "zucchini");
+
+        assertEquals(4, words.size());
+        assertEquals(1, words.binarySearch("fig"));
+        assertTrue(words.binarySearch("apple") < 0);
+        assertEquals("zucchini", words.get(3));
+
+        Iterator<String> iterator = words.iterator();
+        iterator.next();
+        words.append("cherry");
+        assertThrows(ConcurrentModificationException.class, iterator::next);
+
+        assertThrows(IndexOutOfBoundsException.class, () -> words.get(5));
+        assertThrows(IndexOutOfBoundsException.class, () -> words.set(-1, "x"));
+        assertThrows(IllegalArgumentException.class, () -> new SortedArray<String>(Comparator.naturalOrder(), 1.5));
+    }
+}
@@ -0,0 +1,90 @@
+package com.example.sorting;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import static org.junit.jupiter.api.Assertions.*;
+import java.util.Arrays;
+import java.util.Random;
+
+/**
+ * Test class for the small-block sorting networks in SortingNetworks.
+ */
+public class SortingNetworksTest {
+
+    @Test
+    @DisplayName("Networks: the test JVM runs with the Vector API module")
+    public void testVectorized() {
+        assertTrue(SortingNetworks.isVectorized());
+    }
+
+    @Test
+    @DisplayName("Networks: every block length up to MAX_BLOCK matches Arrays.sort, at any offset")
+    public void testEveryLength() {
+        Random random = new Random(149);
+        for (int n = 0; n <= SortingNetworks.MAX_BLOCK; n++) {
+            for (int offset : new int[]{0, 3}) {
+                int[] ints = random.ints(n + offset + 2, -20, 20).toArray();
+                int[] expectedInts = ints.clone();
+                Arrays.sort(expectedInts, offset, offset + n);
+                SortingNetworks.sort(ints, offset, offset + n);
+                assertArrayEquals(expectedInts, ints, "int n = " + n);
+
+                long[] longs = random.longs(n + offset + 2).toArray();
+                long[] expectedLongs = longs.clone();
+                Arrays.sort(expectedLongs, offset, offset + n);
+                SortingNetworks.sort(longs, offset, offset + n);
+                assertArrayEquals(expectedLongs, longs, "long n = " + n);
+
+                float[] floats = new float[n + offset + 2];
+                for (int i = 0; i < floats.length; i++) {
+                    floats[i] = random.nextFloat() * 200 - 100;
+                }
+                float[] expectedFloats = floats.clone();
+                Arrays.sort(expectedFloats, offset, offset + n);
+                SortingNetworks.sort(floats, offset, offset + n);
+                assertArrayEquals(expectedFloats, floats, "float n = " + n);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Networks: extreme values, signed zeros and NaN sort like Arrays.sort")
+    public void testSpecialValues() {
+        int[] ints = {Integer.MAX_VALUE, 0, Integer.MIN_VALUE, Integer.MAX_VALUE, -1};
+        SortingNetworks.sort(ints, 0, ints.length);
+        assertArrayEquals(new int[]{Integer.MIN_VALUE, -1, 0, Integer.MAX_VALUE, Integer.MAX_VALUE}, ints);
+
+        float[] noNaN = {0.0f, -0.0f, Float.POSITIVE_INFINITY, 1.5f, Float.NEGATIVE_INFINITY, -0.0f, 0.0f};
+        float[] expected = noNaN.clone();
+        Arrays.sort(expected);
+        SortingNetworks.sort(noNaN, 0, noNaN.length);
+        assertArrayEquals(expected, noNaN);
+
+        float[] withNaN = {Float.NaN, 3f, -0.0f, Float.POSITIVE_INFINITY, 0.0f, Float.NaN, -7f};
+        expected = withNaN.clone();
+        Arrays.sort(expected);
+        SortingNetworks.sort(withNaN, 0, withNaN.length);
+        assertArrayEquals(expected, withNaN);
+    }
+
+    @Test
+    @DisplayName("Networks: scalar fallback, primitive base case and block size limit")
+    public void testFallbackAndBaseCase() {
+        int[] scalar = new Random(151).ints(40).toArray();
+        int[] expected = scalar.clone();
+        Arrays.sort(expected);
+        SortingNetworks.scalarSort(scalar, 0, scalar.length);
+        assertArrayEquals(expected, scalar);
+
+        // SortingUtility's small primitive sorts use the network as their base case
+        long[] small = new Random(157).longs(SortingNetworks.MAX_BLOCK).toArray();
+        long[] expectedSmall = small.clone();
+        Arrays.sort(expectedSmall);
+        SortingUtility.gnomeSort(small);
+        assertArrayEquals(expectedSmall, small);
+
+        assertThrows(IllegalArgumentException.class,
+                () -> SortingNetworks.sort(new int[SortingNetworks.MAX_BLOCK + 1], 0, SortingNetworks.MAX_BLOCK + 1));
+        assertThrows(ArrayIndexOutOfBoundsException.class, () -> SortingNetworks.sort(new long[4], 2, 6));
+    }
+}
@@ -0,0 +1,266 @@
+package com.example.sorting;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * Performance contracts for the sorting algorithms.
+ *
+ * Instead of timing anything, these tests count comparisons (through a counting Comparator
+ * passed to SortingUtility itself), moves and passes (through InstrumentedSorting), and heap
+ * bytes allocated by the calling thread. The counts are deterministic for a seeded input,
+ * so the tests are stable on noisy machines but still fail when a change makes an algorithm
+ * scale worse or allocate in its inner loop.
+ */
+public class SortingPerformanceContractTest {
+
+    // Shell Sort with the Ciura gaps measures 0.5-1.7 comparisons per n^1.3 on these inputs
+    private static final double SHELL_SORT_BUDGET = 2.5;
+
+    // Large enough that the primitive sorts do not take the SortingNetworks path
+    private static final int ALLOCATION_TEST_SIZE = 1000;
+
+    private static com.sun.management.ThreadMXBean threads;
+
+    @BeforeAll
+    public static void setUp() {
+        threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+    }
+
+    private static Integer[] input(String distribution, int n, long seed) {
+        Random random = new Random(seed);
+        Integer[] a = new Integer[n];
+        for (int i = 0; i < n; i++) {
+            a[i] = switch (distribution) {
+                case "random" -> random.nextInt();
+                case "duplicates" -> random.nextInt(10);
+                case "organPipe" -> Math.min(i, n - i);
+                case "sorted" -> i;
+                case "reversed" -> n - i;
+                default -> throw new IllegalArgumentException(distribution);
+            };
+        }
+        return a;
+    }
+
+    private static long inversions(Integer[] a) {
+        long count = 0;
+        for (int i = 0; i < a.length; i++) {
+            for (int j = i + 1; j < a.length; j++) {
+                if (a[i] > a[j]) {
+                    count++;
+                }
+            }
+        }
+        return count;
+    }
+
+    // Elements smaller than everything before them; the gnome carries each of these back to
+    // index 0, where it steps forward without comparing
+    private static long newMinima(Integer[] a) {
+        long count = 0;
+        int min = a[0];
+        for (int i = 1; i < a.length; i++) {
+            if (a[i] < min) {
+                min = a[i];
+                count++;
+            }
+        }
+        return count;
+    }
+
+    // A comparator that counts its calls into counter[0] without allocating
+    private static Comparator<Integer> counting(long[] counter) {
+        return (x, y) -> {
+            counter[0]++;
+            return x.compareTo(y);
+        };
+    }
+
+    // ==================== COMPARISON AND MOVE BUDGETS ====================
+
+    @ParameterizedTest
+    @ValueSource(ints = {1000, 4000, 16000, 64000})
+    @DisplayName("Shell Sort: comparisons and moves stay under 2.5 n^1.3")
+    public void testShellSortBudget(int n) {
+        double budget = SHELL_SORT_BUDGET * Math.pow(n, 1.3);
+
+        for (String distribution : List.of("random", "duplicates", "organPipe")) {
+            long[] comparisons = {0};
+            Integer[] a = input(distribution, n, n);
+            SortingUtility.shellSort(a, counting(comparisons));
+            assertTrue(comparisons[0] <= budget,
+                    distribution + ": " + comparisons[0] + " comparisons > " + (long) budget);
+
+            // The instrumented copy must make exactly the same comparisons as the real sort
+            SortMetrics metrics = new SortMetrics();
+            InstrumentedSorting.shellSort(input(distribution, n, n), metrics);
+            assertEquals(comparisons[0], metrics.getComparisons(), distribution);
+            assertTrue(metrics.getMoves() <= budget, distribution + ": " + metrics.getMoves() + " moves");
+            assertEquals(GapSequence.CIURA.gapsFor(n).length, metrics.getPasses());
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 2, 100, 10_000})
+    @DisplayName("Gnome Sort: exactly n-1 comparisons and no moves on sorted input")
+    public void testGnomeSortSorted(int n) {
+        long[] comparisons = {0};
+        SortingUtility.gnomeSort(input("sorted", n, 0), counting(comparisons));
+        assertEquals(n - 1, comparisons[0]);
+
+        comparisons[0] = 0;
+        SortingUtility.binaryGnomeSort(input("sorted", n, 0), counting(comparisons));
+        assertEquals(n - 1, comparisons[0]);
+
+        SortMetrics metrics = new SortMetrics();
+        InstrumentedSorting.gnomeSort(input("sorted", n, 0), metrics);
+        assertEquals(0, metrics.getMoves());
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {10, 500, 2000})
+    @DisplayName("Gnome Sort: comparisons follow the inversion count exactly, 2 moves per inversion")
+    public void testGnomeSortInversions(int n) {
+        Integer[] a = input("random", n, n);
+        long inversions = inversions(a);
+
+        long[] comparisons = {0};
+        SortingUtility.gnomeSort(a.clone(), counting(comparisons));
+        assertEquals(n - 1 + 2 * inversions - newMinima(a), comparisons[0]);
+
+        SortMetrics metrics = new SortMetrics();
+        InstrumentedSorting.gnomeSort(a.clone(), metrics);
+        assertEquals(2 * inversions, metrics.getMoves());
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {2, 100, 3000})
+    @DisplayName("Cocktail Shaker Sort: pass counts on sorted, reversed and one-off input")
+    public void testCocktailShakerSortPasses(int n) {
+        // Sorted: a single forward pass
+        long[] comparisons = {0};
+        SortingUtility.cocktailShakerSort(input("sorted", n, 0), counting(comparisons));
+        assertEquals(n - 1, comparisons[0]);
+        SortMetrics metrics = new SortMetrics();
+        InstrumentedSorting.cocktailShakerSort(input("sorted", n, 0), metrics);
+        assertEquals(1, metrics.getPasses());
+
+        // Reversed: the window shrinks by one per pass
+        comparisons[0] = 0;
+        SortingUtility.cocktailShakerSort(input("reversed", n, 0), counting(comparisons));
+        assertEquals((long) n * (n - 1) / 2, comparisons[0]);
+        metrics = new SortMetrics();
+        InstrumentedSorting.cocktailShakerSort(input("reversed", n, 0), metrics);
+        assertTrue(metrics.getPasses() <= n, "passes: " + metrics.getPasses());
+
+        // Smallest element at the end: forward, backward, then a final check of the window
+        if (n > 2) {
+            Integer[] oneOff = input("sorted", n, 0);
+            oneOff[n - 1] = -1;
+            metrics = new SortMetrics();
+            InstrumentedSorting.cocktailShakerSort(oneOff, metrics);
+            assertEquals(3, metrics.getPasses());
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {2, 30, 300, 400})
+    @DisplayName("Distinct-key sort: comparisons grow with n log2(k), not n log2(n) or n^2")
+    public void testDistinctKeySortBudget(int keys) {
+        int n = 100_000;
+        long perElement = 32 - Integer.numberOfLeadingZeros(keys);
+        Integer[] a = new Random(keys).ints(n, 0, keys).boxed().toArray(Integer[]::new);
+
+        long[] comparisons = {0};
+        SortingUtility.distinctKeySort(a, counting(comparisons));
+        assertTrue(comparisons[0] <= n * perElement,
+                comparisons[0] + " comparisons > " + n * perElement);
+
+        // The adaptive sort adds its pre-scan and the sample on top
+        comparisons[0] = 0;
+        Integer[] b = new Random(keys).ints(n, 0, keys).boxed().toArray(Integer[]::new);
+        assertEquals(SortStrategy.DISTINCT_KEYS, SortingUtility.sort(b, counting(comparisons)));
+        assertTrue(comparisons[0] <= (n + 2048) * (perElement + 1), comparisons[0] + " comparisons");
+    }
+
+    // ==================== ALLOCATION ====================
+
+    /*
+     * Runs the sort once to warm up class initialisation and any cached scratch space, then
+     * measures the bytes the current thread allocates while sorting a fresh input.
+     */
+    private static <A> void assertNoAllocation(String name, Supplier<A> input, Consumer<A> sort) {
+        sort.accept(input.get());
+
+        A fresh = input.get();
+        long before = threads.getCurrentThreadAllocatedBytes();
+        sort.accept(fresh);
+        long allocated = threads.getCurrentThreadAllocatedBytes() - before;
+
+        assertEquals(0, allocated, name + " allocated " + allocated + " bytes");
+    }
+
+    @Test
+    @DisplayName("Allocation: object sorts allocate nothing per call")
+    public void testObjectSortsDoNotAllocate() {
+        assumeTrue(threads.isThreadAllocatedMemorySupported());
+        threads.setThreadAllocatedMemoryEnabled(true);
+
+        Supplier<Integer[]> input = () -> input("random", ALLOCATION_TEST_SIZE, 7);
+        Comparator<Integer> reverse = Comparator.reverseOrder();
+
+        assertNoAllocation("gnomeSort", input, SortingUtility::gnomeSort);
+        assertNoAllocation("gnomeSort(c)", input, a -> SortingUtility.gnomeSort(a, reverse));
+        assertNoAllocation("cocktailShakerSort", input, SortingUtility::cocktailShakerSort);
+        assertNoAllocation("cocktailShakerSort(c)", input, a -> SortingUtility.cocktailShakerSort(a, reverse));
+        assertNoAllocation("shellSort", input, SortingUtility::shellSort);
+        assertNoAllocation("shellSort(c)", input, a -> SortingUtility.shellSort(a, reverse));
+        assertNoAllocation("teleportGnomeSort", input, SortingUtility::teleportGnomeSort);
+        assertNoAllocation("binaryGnomeSort", input, SortingUtility::binaryGnomeSort);
+        assertNoAllocation("partialSort", input, a -> SortingUtility.partialSort(a, 10));
+        assertNoAllocation("select", input, a -> SortingUtility.select(a, a.length / 2));
+
+        Supplier<List<Integer>> list = () -> new ArrayList<>(Arrays.asList(input.get()));
+        assertNoAllocation("shellSort(List)", list, SortingUtility::shellSort);
+        assertNoAllocation("gnomeSort(List)", list, SortingUtility::gnomeSort);
+    }
+
+    @Test
+    @DisplayName("Allocation: primitive sorts and a warmed-up RadixSorter allocate nothing per call")
+    public void testPrimitiveSortsDoNotAllocate() {
+        assumeTrue(threads.isThreadAllocatedMemorySupported());
+        threads.setThreadAllocatedMemoryEnabled(true);
+
+        Supplier<int[]> ints = () -> new Random(11).ints(ALLOCATION_TEST_SIZE).toArray();
+        Supplier<long[]> longs = () -> new Random(13).longs(ALLOCATION_TEST_SIZE).toArray();
+        Supplier<double[]> doubles = () -> new Random(17).doubles(ALLOCATION_TEST_SIZE).toArray();
+
+        assertNoAllocation("gnomeSort(int[])", ints, SortingUtility::gnomeSort);
+        assertNoAllocation("cocktailShakerSort(int[])", ints, SortingUtility::cocktailShakerSort);
+        assertNoAllocation("shellSort(int[])", ints, SortingUtility::shellSort);
+        assertNoAllocation("gnomeSort(long[])", longs, SortingUtility::gnomeSort);
+        assertNoAllocation("cocktailShakerSort(long[])", longs, SortingUtility::cocktailShakerSort);
+        assertNoAllocation("shellSort(long[])", longs, SortingUtility::shellSort);
+        assertNoAllocation("gnomeSort(double[])", doubles, SortingUtility::gnomeSort);
+        assertNoAllocation("cocktailShakerSort(double[])", doubles, SortingUtility::cocktailShakerSort);
+        assertNoAllocation("shellSort(double[])", doubles, SortingUtility::shellSort);
+
+        RadixSorter radix = new RadixSorter();
+        assertNoAllocation("RadixSorter.sort(int[])", ints, radix::sort);
+        assertNoAllocation("RadixSorter.sort(long[])", longs, radix::sort);
+    }
+}
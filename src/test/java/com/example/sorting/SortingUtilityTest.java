@@ -3,7 +3,13 @@ package com.example.sorting;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.DisplayName;
 import static org.junit.jupiter.api.Assertions.*;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Comparator;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
 
 /**
  * Test class for sorting algorithms in SortingUtility.
@@ -392,4 +398,803 @@ public class SortingUtilityTest {
         SortingUtility.cocktailShakerSort(arr);
         assertArrayEquals(new Integer[]{1, 2, 3, 4, 5, 6, 7}, arr);
     }
+
+    // ==================== PRIMITIVE OVERLOAD TESTS ====================
+
+    @Test
+    @DisplayName("Primitive: int[] sorts match Arrays.sort")
+    public void testPrimitiveIntSorts() {
+        int[] arr = {64, -34, 25, 12, 22, -11, 90, 0, 25, Integer.MIN_VALUE, Integer.MAX_VALUE};
+        int[] expected = arr.clone();
+        Arrays.sort(expected);
+
+        int[] copy1 = arr.clone();
+        int[] copy2 = arr.clone();
+        int[] copy3 = arr.clone();
+        SortingUtility.gnomeSort(copy1);
+        SortingUtility.cocktailShakerSort(copy2);
+        SortingUtility.shellSort(copy3);
+
+        assertArrayEquals(expected, copy1);
+        assertArrayEquals(expected, copy2);
+        assertArrayEquals(expected, copy3);
+    }
+
+    @Test
+    @DisplayName("Primitive: long[] sorts match Arrays.sort")
+    public void testPrimitiveLongSorts() {
+        long[] arr = {1000L, -500L, 2000L, 100L, 1500L, Long.MIN_VALUE, Long.MAX_VALUE, 100L};
+        long[] expected = arr.clone();
+        Arrays.sort(expected);
+
+        long[] copy1 = arr.clone();
+        long[] copy2 = arr.clone();
+        long[] copy3 = arr.clone();
+        SortingUtility.gnomeSort(copy1);
+        SortingUtility.cocktailShakerSort(copy2);
+        SortingUtility.shellSort(copy3);
+
+        assertArrayEquals(expected, copy1);
+        assertArrayEquals(expected, copy2);
+        assertArrayEquals(expected, copy3);
+    }
+
+    @Test
+    @DisplayName("Primitive: double[] sorts order NaN and -0.0 like Arrays.sort")
+    public void testPrimitiveDoubleSortsNaNAndNegativeZero() {
+        double[] arr = {3.14, Double.NaN, 0.0, -0.0, Double.NEGATIVE_INFINITY, 1.41,
+                Double.POSITIVE_INFINITY, -0.0, Double.NaN, 0.0, -2.71};
+        double[] expected = arr.clone();
+        Arrays.sort(expected);
+
+        double[] copy1 = arr.clone();
+        double[] copy2 = arr.clone();
+        double[] copy3 = arr.clone();
+        SortingUtility.gnomeSort(copy1);
+        SortingUtility.cocktailShakerSort(copy2);
+        SortingUtility.shellSort(copy3);
+
+        // assertArrayEquals on double[] compares with Double.doubleToLongBits, so -0.0 != 0.0
+        assertArrayEquals(expected, copy1);
+        assertArrayEquals(expected, copy2);
+        assertArrayEquals(expected, copy3);
+    }
+
+    @Test
+    @DisplayName("Primitive: empty and single element arrays")
+    public void testPrimitiveEmptyAndSingle() {
+        int[] empty = {};
+        long[] single = {5L};
+        double[] pair = {2.0, 1.0};
+        SortingUtility.gnomeSort(empty);
+        SortingUtility.cocktailShakerSort(single);
+        SortingUtility.shellSort(pair);
+        assertArrayEquals(new int[]{}, empty);
+        assertArrayEquals(new long[]{5L}, single);
+        assertArrayEquals(new double[]{1.0, 2.0}, pair);
+    }
+
+    @Test
+    @DisplayName("Primitive: Shell Sort on an array larger than the largest gap")
+    public void testPrimitiveShellSortLargeArray() {
+        int[] arr = new Random(42).ints(5000, 0, 50000).toArray();
+        int[] expected = arr.clone();
+        Arrays.sort(expected);
+        SortingUtility.shellSort(arr);
+        assertArrayEquals(expected, arr);
+    }
+
+    // ==================== COMPARATOR AND CACHED-KEY TESTS ====================
+
+    // Simple record type with a non-Comparable payload
+    private record Person(String name, int age, double score) {
+    }
+
+    private static Person[] people() {
+        return new Person[]{
+                new Person("Dana", 31, 2.5),
+                new Person("Ari", 25, -1.0),
+                new Person("Lee", 31, 0.0),
+                new Person("Sam", 19, Double.NaN),
+                new Person("Kim", 25, -0.0),
+                new Person("Max", 44, 9.75)
+        };
+    }
+
+    @Test
+    @DisplayName("Comparator: all three algorithms sort in reverse order")
+    public void testComparatorReverseOrder() {
+        Integer[] arr = {3, 1, 4, 1, 5, 9, 2, 6, 5, 3};
+        Integer[] expected = {9, 6, 5, 5, 4, 3, 3, 2, 1, 1};
+
+        Integer[] copy1 = arr.clone();
+        Integer[] copy2 = arr.clone();
+        Integer[] copy3 = arr.clone();
+        SortingUtility.gnomeSort(copy1, Comparator.reverseOrder());
+        SortingUtility.cocktailShakerSort(copy2, Comparator.reverseOrder());
+        SortingUtility.shellSort(copy3, Comparator.reverseOrder());
+
+        assertArrayEquals(expected, copy1);
+        assertArrayEquals(expected, copy2);
+        assertArrayEquals(expected, copy3);
+    }
+
+    @Test
+    @DisplayName("Comparator: sorting records by a field")
+    public void testComparatorByField() {
+        Person[] expected = people();
+        Arrays.sort(expected, Comparator.comparing(Person::name));
+
+        Person[] copy1 = people();
+        Person[] copy2 = people();
+        Person[] copy3 = people();
+        SortingUtility.gnomeSort(copy1, Comparator.comparing(Person::name));
+        SortingUtility.cocktailShakerSort(copy2, Comparator.comparing(Person::name));
+        SortingUtility.shellSort(copy3, Comparator.comparing(Person::name));
+
+        assertArrayEquals(expected, copy1);
+        assertArrayEquals(expected, copy2);
+        assertArrayEquals(expected, copy3);
+    }
+
+    @Test
+    @DisplayName("Cached key: int key is stable and extracted once per element")
+    public void testSortByIntKeyStable() {
+        Person[] arr = people();
+        int[] calls = {0};
+        SortingUtility.sortByIntKey(arr, p -> {
+            calls[0]++;
+            return p.age();
+        });
+
+        // Arrays.sort on objects is stable, so it is the reference for equal ages
+        Person[] expected = people();
+        Arrays.sort(expected, Comparator.comparingInt(Person::age));
+        assertArrayEquals(expected, arr);
+        assertEquals(arr.length, calls[0]);
+    }
+
+    @Test
+    @DisplayName("Cached key: long and Comparable keys are stable")
+    public void testSortByLongAndComparableKey() {
+        Person[] byLong = people();
+        SortingUtility.sortByLongKey(byLong, p -> -(long) p.age());
+        Person[] expected = people();
+        Arrays.sort(expected, Comparator.comparingLong((Person p) -> -(long) p.age()));
+        assertArrayEquals(expected, byLong);
+
+        Person[] byName = people();
+        SortingUtility.sortByKey(byName, p -> p.name().toLowerCase());
+        expected = people();
+        Arrays.sort(expected, Comparator.comparing((Person p) -> p.name().toLowerCase()));
+        assertArrayEquals(expected, byName);
+    }
+
+    @Test
+    @DisplayName("Cached key: double key follows Double.compare ordering")
+    public void testSortByDoubleKey() {
+        Person[] arr = people();
+        SortingUtility.sortByDoubleKey(arr, Person::score);
+        Person[] expected = people();
+        Arrays.sort(expected, Comparator.comparingDouble(Person::score));
+        assertArrayEquals(expected, arr);
+    }
+
+    @Test
+    @DisplayName("Cached key: large random input matches a stable reference sort")
+    public void testSortByKeyLargeArray() {
+        Random random = new Random(7);
+        Integer[] arr = new Integer[3000];
+        for (int i = 0; i < arr.length; i++) {
+            arr[i] = random.nextInt(1000) - 500;
+        }
+        Integer[] expected = arr.clone();
+        Arrays.sort(expected, Comparator.comparingInt(Math::abs));
+        SortingUtility.sortByIntKey(arr, Math::abs);
+        assertArrayEquals(expected, arr);
+    }
+
+    // ==================== ARGSORT TESTS ====================
+
+    @Test
+    @DisplayName("Argsort: all three algorithms give the same stable permutation and leave the input alone")
+    public void testArgSortStablePermutation() {
+        Person[] arr = people();
+        Comparator<Person> byAge = Comparator.comparingInt(Person::age);
+        int[] expected = {3, 1, 4, 0, 2, 5};
+
+        assertArrayEquals(expected, SortingUtility.argGnomeSort(arr, byAge));
+        assertArrayEquals(expected, SortingUtility.argCocktailShakerSort(arr, byAge));
+        assertArrayEquals(expected, SortingUtility.argShellSort(arr, byAge));
+        assertArrayEquals(people(), arr);
+
+        Integer[] random = new Random(101).ints(3000, 0, 50).boxed().toArray(Integer[]::new);
+        Integer[] copy = random.clone();
+        int[] perm = new int[random.length];
+        SortingUtility.argShellSort(random, Comparator.naturalOrder(), perm);
+        assertArrayEquals(SortingUtility.argGnomeSort(random), perm);
+        assertArrayEquals(SortingUtility.argCocktailShakerSort(random), perm);
+        assertArrayEquals(copy, random);
+
+        assertThrows(IllegalArgumentException.class,
+                () -> SortingUtility.argShellSort(random, Comparator.naturalOrder(), new int[3]));
+    }
+
+    @Test
+    @DisplayName("Argsort: several orders over one array, applied in place by applyPermutation")
+    public void testApplyPermutation() {
+        Person[] arr = people();
+        int[] byName = SortingUtility.argShellSort(arr, Comparator.comparing(Person::name));
+        int[] byScore = SortingUtility.argShellSort(arr, Comparator.comparingDouble(Person::score));
+
+        assertEquals("Ari", arr[byName[0]].name());
+        assertEquals("Max", arr[byScore[byScore.length - 2]].name());
+
+        Integer[] random = new Random(103).ints(5000).boxed().toArray(Integer[]::new);
+        Integer[] expected = random.clone();
+        Arrays.sort(expected);
+        int[] perm = SortingUtility.argShellSort(random);
+        int[] permCopy = perm.clone();
+        SortingUtility.applyPermutation(random, perm);
+        assertArrayEquals(expected, random);
+        assertArrayEquals(permCopy, perm);
+
+        // Invalid permutations are rejected before anything moves
+        Integer[] small = {10, 20, 30};
+        int[] duplicate = {0, 2, 2};
+        assertThrows(IllegalArgumentException.class, () -> SortingUtility.applyPermutation(small, duplicate));
+        assertArrayEquals(new int[]{0, 2, 2}, duplicate);
+        assertThrows(IllegalArgumentException.class, () -> SortingUtility.applyPermutation(small, new int[]{0, -1, 2}));
+        assertThrows(IllegalArgumentException.class, () -> SortingUtility.applyPermutation(small, new int[]{0, 1}));
+        assertArrayEquals(new Integer[]{10, 20, 30}, small);
+    }
+
+    // ==================== PARALLEL SHELL SORT TESTS ====================
+
+    @Test
+    @DisplayName("Parallel Shell Sort: matches serial Shell Sort element for element")
+    public void testParallelShellSortMatchesSerial() {
+        // Sort by the tens digit only, so identity of equal keys shows whether the two runs
+        // moved elements exactly the same way
+        Comparator<Integer> byTens = Comparator.comparingInt(x -> x / 10);
+        Integer[] arr = new Random(11).ints(200_000, 0, 1_000_000).boxed().toArray(Integer[]::new);
+        Integer[] serial = arr.clone();
+        Integer[] parallel = arr.clone();
+
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            SortingUtility.shellSort(serial, byTens);
+            SortingUtility.parallelShellSort(parallel, byTens, pool, 1024);
+        } finally {
+            pool.shutdown();
+        }
+
+        assertArrayEquals(serial, parallel);
+    }
+
+    @Test
+    @DisplayName("Parallel Shell Sort: maximal splitting still matches serial Shell Sort, small gaps stay serial")
+    public void testParallelShellSortSmallGaps() {
+        Comparator<Integer> byTens = Comparator.comparingInt(x -> x / 10);
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            // A threshold of 1 splits every pass with a gap of 64 or more as far as it goes
+            for (int n : new int[]{100, 1000, 50_000}) {
+                Integer[] arr = new Random(n).ints(n, 0, 10 * n).boxed().toArray(Integer[]::new);
+                Integer[] serial = arr.clone();
+                Integer[] parallel = arr.clone();
+                SortingUtility.shellSort(serial, byTens);
+                SortingUtility.parallelShellSort(parallel, byTens, pool, 1);
+                assertArrayEquals(serial, parallel, "n = " + n);
+            }
+
+            // Every Ciura gap for n = 100 is below 64, so no comparison leaves the calling thread
+            Thread caller = Thread.currentThread();
+            Comparator<Integer> onCaller = (x, y) -> {
+                assertSame(caller, Thread.currentThread());
+                return Integer.compare(x, y);
+            };
+            Integer[] arr = new Random(3).ints(100).boxed().toArray(Integer[]::new);
+            SortingUtility.parallelShellSort(arr, onCaller, pool, 1);
+            for (int i = 1; i < arr.length; i++) {
+                assertTrue(arr[i - 1] <= arr[i]);
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("Parallel Shell Sort: small arrays use the serial path")
+    public void testParallelShellSortSmallArray() {
+        Integer[] arr = {64, 34, 25, 12, 22, 11, 90};
+        SortingUtility.parallelShellSort(arr);
+        assertArrayEquals(new Integer[]{11, 12, 22, 25, 34, 64, 90}, arr);
+    }
+
+    @Test
+    @DisplayName("Parallel Shell Sort: rejects a non-positive threshold")
+    public void testParallelShellSortRejectsBadThreshold() {
+        Integer[] arr = {2, 1};
+        assertThrows(IllegalArgumentException.class,
+                () -> SortingUtility.parallelShellSort(arr, Comparator.naturalOrder(), ForkJoinPool.commonPool(), 0));
+    }
+
+    @Test
+    @DisplayName("Parallel Odd-Even Sort: random input matches a stable reference sort")
+    public void testParallelOddEvenSortStable() {
+        // Sort by the tens digit only; a stable sort keeps equal keys in input order
+        Comparator<Integer> byTens = Comparator.comparingInt(x -> x / 10);
+        Integer[] arr = new Random(101).ints(100_000, 0, 1_000_000).boxed().toArray(Integer[]::new);
+        Integer[] expected = arr.clone();
+        Arrays.sort(expected, byTens);
+
+        for (int threads : new int[]{2, 3, 8}) {
+            Integer[] copy = arr.clone();
+            SortingUtility.parallelOddEvenSort(copy, byTens, threads);
+            assertArrayEquals(expected, copy, "threads = " + threads);
+        }
+    }
+
+    @Test
+    @DisplayName("Parallel Odd-Even Sort: nearly sorted and reversed input on a shared pool")
+    public void testParallelOddEvenSortShapes() {
+        Integer[] nearly = new Integer[50_000];
+        for (int i = 0; i < nearly.length; i++) {
+            nearly[i] = i;
+        }
+        Random random = new Random(103);
+        for (int s = 0; s < 100; s++) {
+            swapEntries(nearly, random.nextInt(nearly.length), random.nextInt(nearly.length));
+        }
+        Integer[] reversed = new Integer[20_001];
+        for (int i = 0; i < reversed.length; i++) {
+            reversed[i] = reversed.length - i;
+        }
+
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            for (Integer[] arr : List.of(nearly, reversed)) {
+                Integer[] expected = arr.clone();
+                Arrays.sort(expected);
+                SortingUtility.parallelOddEvenSort(arr, Comparator.naturalOrder(), pool);
+                assertArrayEquals(expected, arr);
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("Parallel Odd-Even Sort: small arrays use Cocktail Shaker Sort, bad thread counts are rejected")
+    public void testParallelOddEvenSortSmallArray() {
+        Integer[] arr = {64, 34, 25, 12, 22, 11, 90};
+        SortingUtility.parallelOddEvenSort(arr);
+        assertArrayEquals(new Integer[]{11, 12, 22, 25, 34, 64, 90}, arr);
+        assertThrows(IllegalArgumentException.class,
+                () -> SortingUtility.parallelOddEvenSort(arr, Comparator.naturalOrder(), 0));
+    }
+
+    private static void swapEntries(Integer[] arr, int i, int j) {
+        Integer temp = arr[i];
+        arr[i] = arr[j];
+        arr[j] = temp;
+    }
+
+    // ==================== LIST TESTS ====================
+
+    @Test
+    @DisplayName("List: all three algorithms sort ArrayList and LinkedList like List.sort")
+    public void testListSorts() {
+        List<Integer> source = new Random(139).ints(3000, -500, 500).boxed().toList();
+        List<Integer> expected = new ArrayList<>(source);
+        expected.sort(null);
+
+        for (List<Integer> list : List.of(new ArrayList<>(source), new LinkedList<>(source))) {
+            List<Integer> gnome = list instanceof LinkedList ? new LinkedList<>(list) : new ArrayList<>(list);
+            List<Integer> cocktail = list instanceof LinkedList ? new LinkedList<>(list) : new ArrayList<>(list);
+            List<Integer> shell = list instanceof LinkedList ? new LinkedList<>(list) : new ArrayList<>(list);
+            SortingUtility.gnomeSort(gnome);
+            SortingUtility.cocktailShakerSort(cocktail);
+            SortingUtility.shellSort(shell);
+            assertEquals(expected, gnome);
+            assertEquals(expected, cocktail);
+            assertEquals(expected, shell);
+        }
+    }
+
+    @Test
+    @DisplayName("List: RandomAccess lists are sorted in place, sublists sort a window")
+    public void testListSortsInPlace() {
+        Integer[] backing = {5, 3, 9, 1, 7, 2};
+        SortingUtility.shellSort(Arrays.asList(backing), Comparator.reverseOrder());
+        assertArrayEquals(new Integer[]{9, 7, 5, 3, 2, 1}, backing);
+
+        List<Integer> list = new ArrayList<>(List.of(9, 8, 7, 6, 5, 4, 3, 2, 1, 0));
+        SortingUtility.cocktailShakerSort(list.subList(2, 7), Comparator.naturalOrder());
+        assertEquals(List.of(9, 8, 3, 4, 5, 6, 7, 2, 1, 0), list);
+    }
+
+    @Test
+    @DisplayName("List: gnome and cocktail sorts are stable on both kinds of list")
+    public void testListSortsStable() {
+        List<Person> people = Arrays.asList(people());
+        List<Person> expected = new ArrayList<>(people);
+        expected.sort(Comparator.comparingInt(Person::age));
+
+        for (List<Person> list : List.of(new ArrayList<>(people), new LinkedList<>(people))) {
+            List<Person> cocktail = new ArrayList<>(list);
+            SortingUtility.gnomeSort(list, Comparator.comparingInt(Person::age));
+            SortingUtility.cocktailShakerSort(cocktail, Comparator.comparingInt(Person::age));
+            assertEquals(expected, list);
+            assertEquals(expected, cocktail);
+        }
+        List<Person> linked = new LinkedList<>(people);
+        SortingUtility.cocktailShakerSort(linked, Comparator.comparingInt(Person::age));
+        assertEquals(expected, linked);
+    }
+
+    // ==================== ADAPTIVE SORT TESTS ====================
+
+    @Test
+    @DisplayName("Adaptive Sort: already sorted input is left alone")
+    public void testAdaptiveSortAlreadySorted() {
+        Integer[] arr = {1, 2, 2, 3, 4, 5};
+        assertEquals(SortStrategy.ALREADY_SORTED, SortingUtility.sort(arr));
+        assertArrayEquals(new Integer[]{1, 2, 2, 3, 4, 5}, arr);
+
+        assertEquals(SortStrategy.ALREADY_SORTED, SortingUtility.sort(new Integer[]{}));
+    }
+
+    @Test
+    @DisplayName("Adaptive Sort: strictly descending input is reversed")
+    public void testAdaptiveSortReversed() {
+        Integer[] arr = {5, 4, 3, 2, 1};
+        assertEquals(SortStrategy.REVERSED, SortingUtility.sort(arr));
+        assertArrayEquals(new Integer[]{1, 2, 3, 4, 5}, arr);
+    }
+
+    @Test
+    @DisplayName("Adaptive Sort: descending input with duplicates is not blindly reversed")
+    public void testAdaptiveSortDescendingWithDuplicates() {
+        Integer[] arr = {5, 4, 4, 2, 1};
+        assertEquals(SortStrategy.INSERTION, SortingUtility.sort(arr));
+        assertArrayEquals(new Integer[]{1, 2, 4, 4, 5}, arr);
+    }
+
+    @Test
+    @DisplayName("Adaptive Sort: nearly sorted large input uses insertion sort")
+    public void testAdaptiveSortNearlySorted() {
+        Integer[] arr = new Integer[10_000];
+        for (int i = 0; i < arr.length; i++) {
+            arr[i] = i;
+        }
+        arr[500] = 503;
+        arr[503] = 500;
+        arr[9000] = 8999;
+        arr[8999] = 9000;
+
+        assertEquals(SortStrategy.INSERTION, SortingUtility.sort(arr));
+        for (int i = 0; i < arr.length; i++) {
+            assertEquals(i, arr[i]);
+        }
+    }
+
+    @Test
+    @DisplayName("Adaptive Sort: a rotated array exceeds the insertion budget and still sorts")
+    public void testAdaptiveSortRotatedFallsBack() {
+        // One descent, but every element of the second half must pass the whole first half
+        Integer[] arr = new Integer[10_000];
+        for (int i = 0; i < arr.length; i++) {
+            arr[i] = (i + arr.length / 2) % arr.length;
+        }
+
+        assertEquals(SortStrategy.MERGE, SortingUtility.sort(arr));
+        for (int i = 0; i < arr.length; i++) {
+            assertEquals(i, arr[i]);
+        }
+    }
+
+    @Test
+    @DisplayName("Adaptive Sort: random input picks Shell Sort or merge sort by size")
+    public void testAdaptiveSortRandomBySize() {
+        Integer[] mid = new Random(3).ints(1000, 0, 50000).boxed().toArray(Integer[]::new);
+        Integer[] large = new Random(5).ints(20_000, 0, 50000).boxed().toArray(Integer[]::new);
+        Integer[] midExpected = mid.clone();
+        Integer[] largeExpected = large.clone();
+        Arrays.sort(midExpected);
+        Arrays.sort(largeExpected);
+
+        assertEquals(SortStrategy.SHELL, SortingUtility.sort(mid));
+        assertEquals(SortStrategy.MERGE, SortingUtility.sort(large));
+        assertArrayEquals(midExpected, mid);
+        assertArrayEquals(largeExpected, large);
+    }
+
+    @Test
+    @DisplayName("Adaptive Sort: tiny input with a comparator")
+    public void testAdaptiveSortComparator() {
+        String[] arr = {"zebra", "apple", "mango", "banana"};
+        assertEquals(SortStrategy.INSERTION, SortingUtility.sort(arr, Comparator.reverseOrder()));
+        assertArrayEquals(new String[]{"zebra", "mango", "banana", "apple"}, arr);
+    }
+
+    @Test
+    @DisplayName("Adaptive Sort: few distinct keys are grouped stably, many keys still merge sort")
+    public void testAdaptiveSortDistinctKeys() {
+        Random random = new Random(127);
+        int[][] pairs = new int[50_000][];
+        for (int i = 0; i < pairs.length; i++) {
+            pairs[i] = new int[]{random.nextInt(300), i};
+        }
+
+        assertEquals(SortStrategy.DISTINCT_KEYS, SortingUtility.sort(pairs, Comparator.comparingInt(p -> p[0])));
+        for (int i = 1; i < pairs.length; i++) {
+            assertTrue(pairs[i - 1][0] < pairs[i][0]
+                    || (pairs[i - 1][0] == pairs[i][0] && pairs[i - 1][1] < pairs[i][1]), "index " + i);
+        }
+
+        // Below the sample's cardinality limit, but the whole input has too many keys to group
+        Integer[] skewed = new Integer[200_000];
+        for (int i = 0; i < skewed.length; i++) {
+            skewed[i] = i % 25 == 1 ? i : i % 7;
+        }
+        Integer[] expected = skewed.clone();
+        Arrays.sort(expected);
+        assertEquals(SortStrategy.MERGE, SortingUtility.sort(skewed));
+        assertArrayEquals(expected, skewed);
+    }
+
+    @Test
+    @DisplayName("Distinct-key sort: matches a full sort with few and with too many keys")
+    public void testDistinctKeySort() {
+        for (int keys : new int[]{1, 2, 300, 10_000}) {
+            Integer[] arr = new Random(keys).ints(20_000, 0, keys).boxed().toArray(Integer[]::new);
+            Integer[] expected = arr.clone();
+            Arrays.sort(expected, Comparator.reverseOrder());
+
+            SortingUtility.distinctKeySort(arr, Comparator.reverseOrder());
+            assertArrayEquals(expected, arr, "keys = " + keys);
+        }
+
+        Person[] byAge = people();
+        SortingUtility.distinctKeySort(byAge, Comparator.comparingInt(Person::age));
+        assertArrayEquals(new String[]{"Sam", "Ari", "Kim", "Dana", "Lee", "Max"},
+                Arrays.stream(byAge).map(Person::name).toArray(String[]::new));
+    }
+
+    // ==================== RANGE SORT TESTS ====================
+
+    @Test
+    @DisplayName("Range: only the requested window is sorted")
+    public void testRangeSortsLeaveOutsideUntouched() {
+        Integer[] arr = {9, 8, 7, 6, 5, 4, 3, 2, 1, 0};
+        Integer[] expected = {9, 8, 3, 4, 5, 6, 7, 2, 1, 0};
+
+        Integer[] copy1 = arr.clone();
+        Integer[] copy2 = arr.clone();
+        Integer[] copy3 = arr.clone();
+        SortingUtility.gnomeSort(copy1, 2, 7);
+        SortingUtility.cocktailShakerSort(copy2, 2, 7);
+        SortingUtility.shellSort(copy3, 2, 7);
+
+        assertArrayEquals(expected, copy1);
+        assertArrayEquals(expected, copy2);
+        assertArrayEquals(expected, copy3);
+    }
+
+    @Test
+    @DisplayName("Range: comparator overloads match Arrays.sort on a large window")
+    public void testRangeSortsWithComparator() {
+        Integer[] arr = new Random(21).ints(3000, 0, 50000).boxed().toArray(Integer[]::new);
+        Integer[] expected = arr.clone();
+        Arrays.sort(expected, 100, 2900, Comparator.reverseOrder());
+
+        Integer[] copy1 = arr.clone();
+        Integer[] copy2 = arr.clone();
+        Integer[] copy3 = arr.clone();
+        SortingUtility.gnomeSort(copy1, 100, 2900, Comparator.reverseOrder());
+        SortingUtility.cocktailShakerSort(copy2, 100, 2900, Comparator.reverseOrder());
+        SortingUtility.shellSort(copy3, 100, 2900, Comparator.reverseOrder());
+
+        assertArrayEquals(expected, copy1);
+        assertArrayEquals(expected, copy2);
+        assertArrayEquals(expected, copy3);
+    }
+
+    @Test
+    @DisplayName("Range: empty ranges are allowed, including at the end of the array")
+    public void testRangeSortsEmptyRange() {
+        Integer[] arr = {3, 2, 1};
+        SortingUtility.gnomeSort(arr, 3, 3);
+        SortingUtility.cocktailShakerSort(arr, 0, 0);
+        SortingUtility.shellSort(arr, 1, 1);
+        assertArrayEquals(new Integer[]{3, 2, 1}, arr);
+    }
+
+    @Test
+    @DisplayName("Range: bounds are checked like java.util.Arrays")
+    public void testRangeSortsBoundsChecks() {
+        Integer[] arr = {3, 2, 1};
+        assertThrows(IllegalArgumentException.class, () -> SortingUtility.gnomeSort(arr, 2, 1));
+        assertThrows(ArrayIndexOutOfBoundsException.class, () -> SortingUtility.cocktailShakerSort(arr, -1, 2));
+        assertThrows(ArrayIndexOutOfBoundsException.class, () -> SortingUtility.shellSort(arr, 0, 4));
+        assertThrows(ArrayIndexOutOfBoundsException.class,
+                () -> SortingUtility.shellSort(arr, 0, 4, Comparator.naturalOrder()));
+    }
+
+    @Test
+    @DisplayName("Cocktail Shaker Sort: shrinking window sorts partially sorted data")
+    public void testCocktailShakerSortShrinkingWindow() {
+        // Sorted prefix and suffix around an unsorted middle
+        Integer[] arr = new Integer[500];
+        for (int i = 0; i < arr.length; i++) {
+            arr[i] = i;
+        }
+        for (int i = 200, j = 299; i < j; i++, j--) {
+            Integer temp = arr[i];
+            arr[i] = arr[j];
+            arr[j] = temp;
+        }
+        int[] primitive = Arrays.stream(arr).mapToInt(Integer::intValue).toArray();
+
+        SortingUtility.cocktailShakerSort(arr);
+        SortingUtility.cocktailShakerSort(primitive);
+
+        for (int i = 0; i < arr.length; i++) {
+            assertEquals(i, arr[i]);
+            assertEquals(i, primitive[i]);
+        }
+    }
+
+    // ==================== GNOME SORT VARIANT TESTS ====================
+
+    @Test
+    @DisplayName("Gnome Variants: teleporting and binary gnome sorts match Arrays.sort")
+    public void testGnomeVariantsMatchArraysSort() {
+        Integer[] arr = new Random(31).ints(2000, -500, 500).boxed().toArray(Integer[]::new);
+        Integer[] expected = arr.clone();
+        Arrays.sort(expected);
+
+        Integer[] copy1 = arr.clone();
+        Integer[] copy2 = arr.clone();
+        SortingUtility.teleportGnomeSort(copy1);
+        SortingUtility.binaryGnomeSort(copy2);
+
+        assertArrayEquals(expected, copy1);
+        assertArrayEquals(expected, copy2);
+    }
+
+    @Test
+    @DisplayName("Gnome Variants: both variants are stable")
+    public void testGnomeVariantsStable() {
+        Person[] expected = people();
+        Arrays.sort(expected, Comparator.comparingInt(Person::age));
+
+        Person[] copy1 = people();
+        Person[] copy2 = people();
+        SortingUtility.teleportGnomeSort(copy1, Comparator.comparingInt(Person::age));
+        SortingUtility.binaryGnomeSort(copy2, Comparator.comparingInt(Person::age));
+
+        assertArrayEquals(expected, copy1);
+        assertArrayEquals(expected, copy2);
+    }
+
+    @Test
+    @DisplayName("Gnome Variants: binary gnome sort does n-1 comparisons on sorted input")
+    public void testBinaryGnomeSortSortedInputComparisons() {
+        Integer[] arr = new Integer[1000];
+        for (int i = 0; i < arr.length; i++) {
+            arr[i] = i;
+        }
+        int[] comparisons = {0};
+        SortingUtility.binaryGnomeSort(arr, (x, y) -> {
+            comparisons[0]++;
+            return x.compareTo(y);
+        });
+        assertEquals(arr.length - 1, comparisons[0]);
+    }
+
+    @Test
+    @DisplayName("Gnome Variants: binary gnome sort needs O(n log n) comparisons on random input")
+    public void testBinaryGnomeSortRandomInputComparisons() {
+        int n = 4096;
+        Integer[] arr = new Random(37).ints(n, 0, 50000).boxed().toArray(Integer[]::new);
+        int[] comparisons = {0};
+        SortingUtility.binaryGnomeSort(arr, (x, y) -> {
+            comparisons[0]++;
+            return x.compareTo(y);
+        });
+
+        // One forward check plus at most ceil(log2(n)) probes per element
+        assertTrue(comparisons[0] <= n * 13, "comparisons: " + comparisons[0]);
+        for (int i = 1; i < n; i++) {
+            assertTrue(arr[i - 1] <= arr[i]);
+        }
+    }
+
+    @Test
+    @DisplayName("Gnome Variants: range overloads leave the outside untouched")
+    public void testGnomeVariantsRange() {
+        Integer[] copy1 = {9, 8, 7, 6, 5, 4, 3, 2, 1, 0};
+        Integer[] copy2 = copy1.clone();
+        SortingUtility.teleportGnomeSort(copy1, 2, 7, Comparator.naturalOrder());
+        SortingUtility.binaryGnomeSort(copy2, 2, 7, Comparator.naturalOrder());
+        assertArrayEquals(new Integer[]{9, 8, 3, 4, 5, 6, 7, 2, 1, 0}, copy1);
+        assertArrayEquals(new Integer[]{9, 8, 3, 4, 5, 6, 7, 2, 1, 0}, copy2);
+    }
+
+    // ==================== SELECTION TESTS ====================
+
+    @Test
+    @DisplayName("Selection: select finds every order statistic and partitions around it")
+    public void testSelect() {
+        Random random = new Random(83);
+        for (int n : new int[]{1, 10, 100, 5000}) {
+            Integer[] original = random.ints(n, 0, n / 3 + 1).boxed().toArray(Integer[]::new);
+            Integer[] sorted = original.clone();
+            Arrays.sort(sorted);
+
+            for (int k : new int[]{0, n / 2, n - 1}) {
+                Integer[] arr = original.clone();
+                assertEquals(sorted[k], SortingUtility.select(arr, k));
+                for (int i = 0; i < n; i++) {
+                    assertTrue(i < k ? arr[i] <= arr[k] : arr[i] >= arr[k], "n = " + n + ", k = " + k);
+                }
+            }
+        }
+
+        // Organ-pipe input and a reversed comparator
+        Integer[] arr = new Integer[10_000];
+        for (int i = 0; i < arr.length; i++) {
+            arr[i] = Math.min(i, arr.length - 1 - i);
+        }
+        assertEquals(4999, SortingUtility.select(arr, 0, Comparator.reverseOrder()));
+        assertThrows(IllegalArgumentException.class, () -> SortingUtility.select(new Integer[]{1, 2}, 2));
+    }
+
+    @Test
+    @DisplayName("Selection: partialSort sorts the first k positions and keeps the rest")
+    public void testPartialSort() {
+        Integer[] original = new Random(89).ints(10_000, -1000, 1000).boxed().toArray(Integer[]::new);
+        Integer[] sorted = original.clone();
+        Arrays.sort(sorted);
+
+        for (int k : new int[]{0, 1, 50, 10_000}) {
+            Integer[] arr = original.clone();
+            SortingUtility.partialSort(arr, k);
+            assertArrayEquals(Arrays.copyOf(sorted, k), Arrays.copyOf(arr, k), "k = " + k);
+
+            Integer[] rest = Arrays.copyOfRange(arr, k, arr.length);
+            Arrays.sort(rest);
+            assertArrayEquals(Arrays.copyOfRange(sorted, k, sorted.length), rest);
+        }
+
+        // Range overload leaves the outside untouched
+        Integer[] arr = {9, 8, 7, 6, 5, 4, 3, 2, 1, 0};
+        SortingUtility.partialSort(arr, 2, 8, 3, Comparator.naturalOrder());
+        assertArrayEquals(new Integer[]{9, 8, 2, 3, 4}, Arrays.copyOf(arr, 5));
+        assertArrayEquals(new Integer[]{1, 0}, Arrays.copyOfRange(arr, 8, 10));
+    }
+
+    @Test
+    @DisplayName("Selection: topK returns the k smallest in order without touching the input")
+    public void testTopK() {
+        Integer[] arr = new Random(97).ints(10_000).boxed().toArray(Integer[]::new);
+        Integer[] copy = arr.clone();
+        Integer[] sorted = arr.clone();
+        Arrays.sort(sorted);
+
+        assertArrayEquals(Arrays.copyOf(sorted, 25), SortingUtility.topK(arr, 25));
+        assertArrayEquals(copy, arr);
+
+        Integer[] largest = SortingUtility.topK(arr, 3, Comparator.reverseOrder());
+        assertArrayEquals(new Integer[]{sorted[9999], sorted[9998], sorted[9997]}, largest);
+
+        assertEquals(0, SortingUtility.topK(arr, 0).length);
+        assertArrayEquals(sorted, SortingUtility.topK(arr, arr.length));
+        assertArrayEquals(new Integer[]{3, 4}, SortingUtility.topK(new Integer[]{1, 5, 4, 3, 0}, 1, 4, 2,
+                Comparator.naturalOrder()));
+        assertThrows(IllegalArgumentException.class, () -> SortingUtility.topK(arr, -1));
+    }
 }
@@ -0,0 +1,96 @@
+package com.example.sorting;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import static org.junit.jupiter.api.Assertions.*;
+import java.util.Arrays;
+import java.util.Random;
+
+/**
+ * Test class for StringSorter.
+ */
+public class StringSorterTest {
+
+    private static String randomString(Random random, int maxLength, char[] alphabet) {
+        char[] chars = new char[random.nextInt(maxLength + 1)];
+        for (int i = 0; i < chars.length; i++) {
+            chars[i] = alphabet[random.nextInt(alphabet.length)];
+        }
+        return new String(chars);
+    }
+
+    private static void assertSortsLikeCompareTo(StringSorter sorter, String[] a) {
+        String[] expected = a.clone();
+        Arrays.sort(expected);
+        sorter.sort(a);
+        assertArrayEquals(expected, a);
+    }
+
+    @Test
+    @DisplayName("String sort: URL keys with long shared prefixes match compareTo order")
+    public void testSharedPrefixes() {
+        Random random = new Random(107);
+        StringSorter sorter = new StringSorter();
+        String[] hosts = {"https://example.com/", "https://example.org/", "http://example.com/"};
+
+        for (int n : new int[]{0, 1, 16, 17, 1000, 20_000}) {
+            String[] urls = new String[n];
+            for (int i = 0; i < n; i++) {
+                urls[i] = hosts[random.nextInt(hosts.length)] + "api/v" + random.nextInt(3)
+                        + "/items/" + random.nextInt(n + 1) + (random.nextBoolean() ? "" : "?page=" + random.nextInt(5));
+            }
+            assertSortsLikeCompareTo(sorter, urls);
+        }
+
+        // Proper prefixes, empty strings and identical strings
+        String[] prefixes = new String[500];
+        for (int i = 0; i < prefixes.length; i++) {
+            prefixes[i] = "a".repeat(random.nextInt(40));
+        }
+        assertSortsLikeCompareTo(sorter, prefixes);
+    }
+
+    @Test
+    @DisplayName("String sort: Latin-1 and UTF-16 alphabets, including chars above 0xFF and surrogates")
+    public void testAlphabets() {
+        Random random = new Random(109);
+        StringSorter sorter = new StringSorter();
+        char[] latin1 = {'a', 'b', 'z', 'A', '0', ' ', 0, 0x7F, 0x80, 0xE9, 0xFF};
+        char[] utf16 = {'a', 'b', 0xE9, 0xFF, 0x100, 0x3B1, 0x4E2D, 0xD83D, 0xDE00, 0xFFFF};
+
+        for (char[] alphabet : new char[][]{latin1, utf16}) {
+            for (int n : new int[]{50, 5000}) {
+                String[] a = new String[n];
+                for (int i = 0; i < n; i++) {
+                    a[i] = randomString(random, 12, alphabet);
+                }
+                assertSortsLikeCompareTo(sorter, a);
+            }
+        }
+
+        // Latin-1 for a shared prefix, then UTF-16 further in
+        String[] mixed = new String[3000];
+        for (int i = 0; i < mixed.length; i++) {
+            mixed[i] = "/data/" + randomString(random, 3, latin1) + randomString(random, 3, utf16);
+        }
+        assertSortsLikeCompareTo(sorter, mixed);
+    }
+
+    @Test
+    @DisplayName("String sort: the range overload leaves the outside untouched")
+    public void testRange() {
+        StringSorter sorter = new StringSorter();
+        String[] a = new Random(113).ints(100, 0, 1000).mapToObj(i -> "key" + i).toArray(String[]::new);
+        String[] original = a.clone();
+
+        sorter.sort(a, 10, 90);
+        String[] expected = Arrays.copyOfRange(original, 10, 90);
+        Arrays.sort(expected);
+        assertArrayEquals(expected, Arrays.copyOfRange(a, 10, 90));
+        assertArrayEquals(Arrays.copyOf(original, 10), Arrays.copyOf(a, 10));
+        assertArrayEquals(Arrays.copyOfRange(original, 90, 100), Arrays.copyOfRange(a, 90, 100));
+
+        assertThrows(IllegalArgumentException.class, () -> sorter.sort(a, 5, 4));
+        assertThrows(NullPointerException.class, () -> sorter.sort(new String[]{"b", null, "a"}));
+    }
+}